@@ -1,9 +1,79 @@
 package com.example.dsa;
 
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 /**
  * Functions to search and sort lists and arrays.
  */
 public class Algorithms {
+    /**
+     * Number of elements below which the parallel sorts sort or merge a range
+     * sequentially instead of splitting it into further tasks.
+     */
+    private static final int PARALLEL_CUTOFF = 1 << 13;
+
+    /**
+     * Number of elements below which quicksort insertion sorts a range.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Number of elements from which quicksort picks a ninther pivot instead
+     * of a median-of-three pivot.
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Number of unbalanced partitions after which introselect switches to
+     * median-of-medians pivots. A partition followed on one side is
+     * unbalanced if it keeps more than half of its range, and one followed
+     * on both sides if its smaller side is under 1/UNBALANCED_FRACTION of it.
+     */
+    private static final int MAX_BAD_PARTITIONS = 4;
+
+    /**
+     * Inverse of the fraction of its range below which the smaller side of
+     * a partition followed on both sides makes it unbalanced.
+     */
+    private static final int UNBALANCED_FRACTION = 8;
+
+    /**
+     * Number of elements below which merge sort only binary insertion sorts,
+     * and twice the shortest run merge sort extends short runs to.
+     */
+    private static final int MIN_MERGE = 32;
+
+    /**
+     * Initial number of consecutive wins after which a merge gallops.
+     */
+    private static final int MIN_GALLOP = 7;
+
+    /**
+     * Maximum number of pending runs in a merge sort, which the run length
+     * invariants keep logarithmic in the array length.
+     */
+    private static final int MAX_RUNS = 49;
+
+    /**
+     * Number of bits of a key which radix sort distributes by in each pass.
+     */
+    private static final int RADIX_BITS = 8;
+
+    /**
+     * Number of buckets per radix sort pass.
+     */
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    /**
+     * Number of strings below which MSD radix sort switches to a comparison
+     * sort.
+     */
+    private static final int RADIX_SORT_CUTOFF = 32;
+
     /**
      * Default constructor which should not be documented.
      */
@@ -98,313 +168,3216 @@ public class Algorithms {
     }
 
     /**
-     * Performs an in-memory merge sort of the list.
+     * Performs a binary search on a list for a key according to a
+     * comparator, and returns the index of the first match found. Result is
+     * undefined for a list not sorted by the comparator.
+     *
+     * @param list list to search in
+     * @param key key to find
+     * @param comparator comparator which orders the list
+     * @return index of key in list, or -1 if key not found
+     * @param <T> data type
+     */
+    public static <T> int binarySearch(MyList<T> list, T key,
+        Comparator<? super T> comparator) {
+        int startIndex = 0;
+        int endIndex = list.size() - 1;
+        while (startIndex <= endIndex) {
+            int mid = (startIndex + endIndex) >>> 1;
+            int comparison = comparator.compare(list.get(mid), key);
+            if (comparison == 0) {
+                return mid;
+            } else if (comparison > 0) {
+                endIndex = mid - 1;
+            } else {
+                startIndex = mid + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Performs a binary search on an array for a key according to a
+     * comparator, and returns the index of the first match found. Result is
+     * undefined for an array not sorted by the comparator.
+     *
+     * @param array array to search in
+     * @param key key to find
+     * @param comparator comparator which orders the array
+     * @return index of key in array, or -1 if key not found
+     * @param <T> data type
+     */
+    public static <T> int binarySearch(T[] array, T key,
+        Comparator<? super T> comparator) {
+        int startIndex = 0;
+        int endIndex = array.length - 1;
+        while (startIndex <= endIndex) {
+            int mid = (startIndex + endIndex) >>> 1;
+            int comparison = comparator.compare(array[mid], key);
+            if (comparison == 0) {
+                return mid;
+            } else if (comparison > 0) {
+                endIndex = mid - 1;
+            } else {
+                startIndex = mid + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Performs a binary search on a list sorted by int keys for an element
+     * with a specified key, and returns the index of the first match found.
+     * The key of each probed element is extracted on demand, since a binary
+     * search visits too few elements for extracting every key to pay off.
+     *
+     * @param list list to search in
+     * @param key key to find
+     * @param keyExtractor function which extracts the key of an element
+     * @return index of an element with key, or -1 if key not found
+     * @param <T> data type
+     */
+    public static <T> int binarySearchByInt(MyList<T> list, int key,
+        ToIntFunction<? super T> keyExtractor) {
+        int startIndex = 0;
+        int endIndex = list.size() - 1;
+        while (startIndex <= endIndex) {
+            int mid = (startIndex + endIndex) >>> 1;
+            int current = keyExtractor.applyAsInt(list.get(mid));
+            if (current == key) {
+                return mid;
+            } else if (current > key) {
+                endIndex = mid - 1;
+            } else {
+                startIndex = mid + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Performs a binary search on an array sorted by int keys for an element
+     * with a specified key, and returns the index of the first match found.
+     * The key of each probed element is extracted on demand, since a binary
+     * search visits too few elements for extracting every key to pay off.
+     *
+     * @param array array to search in
+     * @param key key to find
+     * @param keyExtractor function which extracts the key of an element
+     * @return index of an element with key, or -1 if key not found
+     * @param <T> data type
+     */
+    public static <T> int binarySearchByInt(T[] array, int key,
+        ToIntFunction<? super T> keyExtractor) {
+        int startIndex = 0;
+        int endIndex = array.length - 1;
+        while (startIndex <= endIndex) {
+            int mid = (startIndex + endIndex) >>> 1;
+            int current = keyExtractor.applyAsInt(array[mid]);
+            if (current == key) {
+                return mid;
+            } else if (current > key) {
+                endIndex = mid - 1;
+            } else {
+                startIndex = mid + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Performs a binary search on a list sorted by long keys for an element
+     * with a specified key, and returns the index of the first match found.
+     * The key of each probed element is extracted on demand, since a binary
+     * search visits too few elements for extracting every key to pay off.
+     *
+     * @param list list to search in
+     * @param key key to find
+     * @param keyExtractor function which extracts the key of an element
+     * @return index of an element with key, or -1 if key not found
+     * @param <T> data type
+     */
+    public static <T> int binarySearchByLong(MyList<T> list, long key,
+        ToLongFunction<? super T> keyExtractor) {
+        int startIndex = 0;
+        int endIndex = list.size() - 1;
+        while (startIndex <= endIndex) {
+            int mid = (startIndex + endIndex) >>> 1;
+            long current = keyExtractor.applyAsLong(list.get(mid));
+            if (current == key) {
+                return mid;
+            } else if (current > key) {
+                endIndex = mid - 1;
+            } else {
+                startIndex = mid + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Performs a binary search on an array sorted by long keys for an element
+     * with a specified key, and returns the index of the first match found.
+     * The key of each probed element is extracted on demand, since a binary
+     * search visits too few elements for extracting every key to pay off.
+     *
+     * @param array array to search in
+     * @param key key to find
+     * @param keyExtractor function which extracts the key of an element
+     * @return index of an element with key, or -1 if key not found
+     * @param <T> data type
+     */
+    public static <T> int binarySearchByLong(T[] array, long key,
+        ToLongFunction<? super T> keyExtractor) {
+        int startIndex = 0;
+        int endIndex = array.length - 1;
+        while (startIndex <= endIndex) {
+            int mid = (startIndex + endIndex) >>> 1;
+            long current = keyExtractor.applyAsLong(array[mid]);
+            if (current == key) {
+                return mid;
+            } else if (current > key) {
+                endIndex = mid - 1;
+            } else {
+                startIndex = mid + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Performs an in-memory merge sort of the list. The list is copied into
+     * an array, sorted as by mergesort(T[]), and written back.
      *
      * @param list list to sort
      * @param <T> data type which much implement Comparable
      */
     public static <T extends Comparable<? super T>> void mergesort(
         MyList<T> list) {
-        int size = list.size();
-        MyArrayList<T> temp = new MyArrayList<>(size);
-        for (int i = 0; i < size; i++) {
-            temp.add(list.get(i));
-        }
-        mergesort(list, temp, 0, size - 1);
+        mergesort(list, Comparator.naturalOrder());
     }
 
     /**
-     * Performs an in-memory merge sort of the array.
+     * Performs an in-memory merge sort of the array. This is an adaptive
+     * natural merge sort which finds runs that are already in order and
+     * merges them with galloping, so nearly sorted input is sorted in close to
+     * O(n) time and random input in O(n log n) time. The sort is stable.
      *
      * @param array array to sort
      * @param <T> data type which much implement Comparable
      */
-    @SuppressWarnings("unchecked")
     public static <T extends Comparable<? super T>> void mergesort(T[] array) {
-        T[] temp = (T[]) new Comparable[array.length];
-        System.arraycopy(array, 0, temp, 0, array.length);
-        mergesort(array, temp, 0, array.length - 1);
+        mergesort(array, Comparator.naturalOrder());
     }
 
     /**
-     * Performs an in-memory quicksort of the list.
+     * Performs an in-memory merge sort of the list according to a
+     * comparator. The list is copied into an array, sorted as by
+     * mergesort(T[], Comparator), and written back.
      *
      * @param list list to sort
-     * @param <T> data type which much implement Comparable
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
      */
-    public static <T extends Comparable<? super T>> void quicksort(
-        MyList<T> list) {
-        quicksort(list, 0, list.size() - 1);
+    public static <T> void mergesort(MyList<T> list,
+        Comparator<? super T> comparator) {
+        T[] array = copyToArray(list);
+        mergesort(array, comparator);
+        writeBack(list, array);
     }
 
     /**
-     * Performs an in-memory quicksort of the array.
+     * Performs an in-memory merge sort of the array according to a
+     * comparator, as by mergesort(T[]). The sort is stable.
      *
      * @param array array to sort
-     * @param <T> data type which much implement Comparable
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
      */
-    public static <T extends Comparable<? super T>> void quicksort(T[] array) {
-        quicksort(array, 0, array.length - 1);
+    @SuppressWarnings("unchecked")
+    public static <T> void mergesort(T[] array,
+        Comparator<? super T> comparator) {
+        T[] temp = array.length < MIN_MERGE ? null
+            : (T[]) new Object[array.length];
+        timsort(array, temp, 0, array.length, comparator);
     }
 
     /**
-     * Performs an in-memory heapsort of the list.
+     * Performs an in-memory merge sort of the list by int keys. Every key is
+     * extracted once into a primitive array, which is sorted together with
+     * the elements so that comparisons never call back into the elements.
+     * The sort is stable.
      *
      * @param list list to sort
-     * @param <T> data type which much implement Comparable
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
      */
-    public static <T extends Comparable<? super T>> void heapsort(
-        MyList<T> list) {
-        int size = list.size();
-        MyPriorityQueue<T> minHeap = new MyPriorityQueue<>(size);
-        for (int i = 0; i < size; i++) {
-            minHeap.offer(list.remove(0));
-        }
-        for (int i = 0; i < size; i++) {
-            list.add(minHeap.poll());
-        }
+    public static <T> void mergesortByInt(MyList<T> list,
+        ToIntFunction<? super T> keyExtractor) {
+        T[] array = copyToArray(list);
+        mergesortByInt(array, keyExtractor);
+        writeBack(list, array);
     }
 
     /**
-     * Performs an in-memory heapsort of the array.
+     * Performs an in-memory merge sort of the array by int keys. Every key is
+     * extracted once into a primitive array, which is sorted together with
+     * the elements so that comparisons never call back into the elements.
+     * The sort is stable.
      *
      * @param array array to sort
-     * @param <T> data type which much implement Comparable
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
      */
-    public static <T extends Comparable<? super T>> void heapsort(T[] array) {
-        MyPriorityQueue<T> minHeap = new MyPriorityQueue<>(array.length);
-        for (T element : array) {
-            minHeap.offer(element);
-        }
-        for (int i = 0; i < array.length; i++) {
-            array[i] = minHeap.poll();
-        }
+    public static <T> void mergesortByInt(T[] array,
+        ToIntFunction<? super T> keyExtractor) {
+        keyedMergesort(intKeys(array, keyExtractor), array);
     }
 
     /**
-     * Internal merge sort divide and conquer function for lists.
+     * Performs an in-memory merge sort of the list by long keys. Every key is
+     * extracted once into a primitive array, which is sorted together with
+     * the elements so that comparisons never call back into the elements.
+     * The sort is stable.
      *
      * @param list list to sort
-     * @param temp temporary list
-     * @param left left index
-     * @param right right index
-     * @param <T> data type which much implement Comparable
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
      */
-    private static <T extends Comparable<? super T>> void mergesort(
-        MyList<T> list, MyList<T> temp, int left, int right) {
-        if (left < right) {
-            int mid = (left + right) / 2;
-            mergesort(list, temp, left, mid);
-            mergesort(list, temp, mid + 1, right);
-
-            int leftPointer = left;
-            int rightPointer = mid + 1;
-            int counter = left;
-
-            while (leftPointer <= mid && rightPointer <= right) {
-                if (list.get(leftPointer).compareTo(
-                    list.get(rightPointer)) <= 0) {
-                    temp.set(counter++, list.get(leftPointer++));
-                } else {
-                    temp.set(counter++, list.get(rightPointer++));
-                }
-            }
+    public static <T> void mergesortByLong(MyList<T> list,
+        ToLongFunction<? super T> keyExtractor) {
+        T[] array = copyToArray(list);
+        mergesortByLong(array, keyExtractor);
+        writeBack(list, array);
+    }
 
-            if (leftPointer > mid) {
-                while (rightPointer <= right) {
-                    temp.set(counter++, list.get(rightPointer++));
-                }
-            } else {
-                while (leftPointer <= mid) {
-                    temp.set(counter++, list.get(leftPointer++));
-                }
-            }
+    /**
+     * Performs an in-memory merge sort of the array by long keys. Every key is
+     * extracted once into a primitive array, which is sorted together with
+     * the elements so that comparisons never call back into the elements.
+     * The sort is stable.
+     *
+     * @param array array to sort
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
+     */
+    public static <T> void mergesortByLong(T[] array,
+        ToLongFunction<? super T> keyExtractor) {
+        keyedMergesort(longKeys(array, keyExtractor), array);
+    }
 
-            for (int index = left; index <= right; index++) {
-                list.set(index, temp.get(index));
-            }
-        }
+    /**
+     * Performs an in-memory quicksort of the list. This is an introsort:
+     * ranges are split with a three-way partition, small ranges are insertion
+     * sorted, and ranges which recurse too deeply are heapsorted, so the sort
+     * takes O(n log n) time even on adversarial or all-equal input. A list
+     * which is not MyRandomAccess is copied into an array, sorted, and
+     * written back.
+     *
+     * @param list list to sort
+     * @param <T> data type which much implement Comparable
+     */
+    public static <T extends Comparable<? super T>> void quicksort(
+        MyList<T> list) {
+        quicksort(list, Comparator.naturalOrder());
     }
 
     /**
-     * Internal merge sort function for arrays.
+     * Performs an in-memory quicksort of the array. This is an introsort:
+     * ranges are split with a three-way partition, small ranges are insertion
+     * sorted, and ranges which recurse too deeply are heapsorted, so the sort
+     * takes O(n log n) time even on adversarial or all-equal input.
      *
      * @param array array to sort
-     * @param temp temporary array
-     * @param left left index
-     * @param right right index
      * @param <T> data type which much implement Comparable
      */
-    private static <T extends Comparable<? super T>> void mergesort(
-        T[] array, T[] temp, int left, int right) {
-        if (left < right) {
-            int mid = (left + right) / 2;
-            mergesort(array, temp, left, mid);
-            mergesort(array, temp, mid + 1, right);
-
-            int leftPointer = left;
-            int rightPointer = mid + 1;
-            int counter = left;
-
-            while (leftPointer <= mid && rightPointer <= right) {
-                if (array[leftPointer].compareTo(array[rightPointer]) <= 0) {
-                    temp[counter++] = array[leftPointer++];
-                } else {
-                    temp[counter++] = array[rightPointer++];
-                }
-            }
-
-            if (leftPointer > mid) {
-                while (rightPointer <= right) {
-                    temp[counter++] = array[rightPointer++];
-                }
-            } else {
-                while (leftPointer <= mid) {
-                    temp[counter++] = array[leftPointer++];
-                }
-            }
-            System.arraycopy(temp, left, array, left, right - left + 1);
-        }
+    public static <T extends Comparable<? super T>> void quicksort(T[] array) {
+        quicksort(array, Comparator.naturalOrder());
     }
 
     /**
-     * Internal high level quicksort function for lists.
+     * Performs an in-memory quicksort of the list according to a comparator,
+     * as by quicksort(MyList).
      *
      * @param list list to sort
-     * @param left left index
-     * @param right right index
-     * @param <T> data type which much implement Comparable
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
      */
-    private static <T extends Comparable<? super T>> void quicksort(
-        MyList<T> list, int left, int right) {
-        if (left < right) {
-            int pivotIndex = partition(list, left, right);
-            quicksort(list, left, pivotIndex - 1);
-            quicksort(list, pivotIndex, right);
+    public static <T> void quicksort(MyList<T> list,
+        Comparator<? super T> comparator) {
+        if (!(list instanceof MyRandomAccess)) {
+            T[] array = copyToArray(list);
+            quicksort(array, comparator);
+            writeBack(list, array);
+            return;
         }
+        int size = list.size();
+        introsort(list, 0, size - 1, depthLimit(size), new int[2],
+            comparator);
+    }
+
+    /**
+     * Performs an in-memory quicksort of the array according to a
+     * comparator, as by quicksort(T[]).
+     *
+     * @param array array to sort
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    public static <T> void quicksort(T[] array,
+        Comparator<? super T> comparator) {
+        introsort(array, 0, array.length - 1, depthLimit(array.length),
+            new int[2], comparator);
     }
 
     /**
-     * Partition function for quicksort for lists.
+     * Performs an in-memory quicksort of the list by int keys. Every key is
+     * extracted once into a primitive array, which is introsorted together
+     * with the elements so that comparisons never call back into the
+     * elements.
      *
      * @param list list to sort
-     * @param left left index
-     * @param right right index
-     * @return pivot location
-     * @param <T> data type which much implement Comparable
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
      */
-    private static <T extends Comparable<? super T>> int partition(
-        MyList<T> list, int left, int right) {
-        T pivot;
-        if (right - left > 1) {
-            pivot = findMedian(
-                list.get(left),
-                list.get((left + right) / 2),
-                list.get(right)
-            );
-        } else {
-            pivot = list.get(left);
-        }
+    public static <T> void quicksortByInt(MyList<T> list,
+        ToIntFunction<? super T> keyExtractor) {
+        T[] array = copyToArray(list);
+        quicksortByInt(array, keyExtractor);
+        writeBack(list, array);
+    }
 
-        while (left <= right) {
-            while (list.get(left).compareTo(pivot) < 0) {
-                left++;
-            }
-            while (list.get(right).compareTo(pivot) > 0) {
-                right--;
-            }
-            if (left <= right) {
-                T temp = list.get(left);
-                list.set(left, list.get(right));
-                list.set(right, temp);
-                left++;
-                right--;
-            }
-        }
-        return left;
+    /**
+     * Performs an in-memory quicksort of the array by int keys. Every key is
+     * extracted once into a primitive array, which is introsorted together
+     * with the elements so that comparisons never call back into the
+     * elements.
+     *
+     * @param array array to sort
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
+     */
+    public static <T> void quicksortByInt(T[] array,
+        ToIntFunction<? super T> keyExtractor) {
+        keyedIntrosort(intKeys(array, keyExtractor), array, 0, array.length - 1,
+            depthLimit(array.length));
+    }
+
+    /**
+     * Performs an in-memory quicksort of the list by long keys. Every key is
+     * extracted once into a primitive array, which is introsorted together
+     * with the elements so that comparisons never call back into the
+     * elements.
+     *
+     * @param list list to sort
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
+     */
+    public static <T> void quicksortByLong(MyList<T> list,
+        ToLongFunction<? super T> keyExtractor) {
+        T[] array = copyToArray(list);
+        quicksortByLong(array, keyExtractor);
+        writeBack(list, array);
     }
 
     /**
-     * Internal high level quicksort function for arrays.
+     * Performs an in-memory quicksort of the array by long keys. Every key is
+     * extracted once into a primitive array, which is introsorted together
+     * with the elements so that comparisons never call back into the
+     * elements.
      *
      * @param array array to sort
-     * @param left left index
-     * @param right right index
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
+     */
+    public static <T> void quicksortByLong(T[] array,
+        ToLongFunction<? super T> keyExtractor) {
+        keyedIntrosort(longKeys(array, keyExtractor), array, 0,
+            array.length - 1,
+            depthLimit(array.length));
+    }
+
+    /**
+     * Performs an in-memory heapsort of the list. A MyArrayList is sorted in
+     * place in its internal array and any other MyRandomAccess list in place
+     * through get and set, without allocating; any other list is copied into
+     * an array, sorted, and written back.
+     *
+     * @param list list to sort
      * @param <T> data type which much implement Comparable
      */
-    private static <T extends Comparable<? super T>> void quicksort(
-        T[] array, int left, int right) {
-        if (left < right) {
-            int pivotIndex = partition(array, left, right);
-            quicksort(array, left, pivotIndex - 1);
-            quicksort(array, pivotIndex, right);
-        }
+    public static <T extends Comparable<? super T>> void heapsort(
+        MyList<T> list) {
+        heapsort(list, Comparator.naturalOrder());
     }
 
     /**
-     * Partition function for quicksort for arrays.
+     * Performs an in-memory heapsort of the array. The array is turned into a
+     * max heap in place and the maximum is repeatedly swapped to the end, so
+     * no extra memory is allocated.
      *
      * @param array array to sort
-     * @param left left index
-     * @param right right index
-     * @return pivot location
      * @param <T> data type which much implement Comparable
      */
-    private static <T extends Comparable<? super T>> int partition(
-        T[] array, int left, int right) {
-        T pivot;
-        if (right - left > 1) {
-            pivot = findMedian(
-                array[left],
-                array[(left + right) / 2],
-                array[right]
-            );
-        } else {
-            pivot = array[left];
-        }
+    public static <T extends Comparable<? super T>> void heapsort(T[] array) {
+        heapsort(array, Comparator.naturalOrder());
+    }
 
-        while (left <= right) {
-            while (array[left].compareTo(pivot) < 0) {
-                left++;
-            }
-            while (array[right].compareTo(pivot) > 0) {
-                right--;
-            }
-            if (left <= right) {
-                T temp = array[left];
-                array[left] = array[right];
-                array[right] = temp;
-                left++;
-                right--;
-            }
+    /**
+     * Performs an in-memory heapsort of the list according to a comparator,
+     * as by heapsort(MyList).
+     *
+     * @param list list to sort
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void heapsort(MyList<T> list,
+        Comparator<? super T> comparator) {
+        if (list instanceof MyArrayList<T> arrayList) {
+            heapsort((T[]) arrayList.internalArray(), 0, arrayList.size() - 1,
+                comparator);
+        } else if (list instanceof MyRandomAccess) {
+            heapsort(list, 0, list.size() - 1, comparator);
+        } else {
+            T[] array = copyToArray(list);
+            heapsort(array, comparator);
+            writeBack(list, array);
         }
-        return left;
     }
 
     /**
-     * Finds the median of three values. Used for quicksort.
+     * Performs an in-memory heapsort of the array according to a comparator,
+     * as by heapsort(T[]).
      *
-     * @param a first value
-     * @param b second value
-     * @param c third value
-     * @return the median of the first, second, and third values
-     * @param <T> data type which much implement Comparable
+     * @param array array to sort
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
      */
-    private static <T extends Comparable<? super T>> T findMedian(
-        T a, T b, T c) {
-        boolean aLEb = a.compareTo(b) <= 0;
-        boolean bLEc = b.compareTo(c) <= 0;
-        boolean aLEc = a.compareTo(c) <= 0;
-        boolean cLEb = c.compareTo(b) <= 0;
-        boolean bLEa = b.compareTo(a) <= 0;
-        boolean cLEa = c.compareTo(a) <= 0;
+    public static <T> void heapsort(T[] array,
+        Comparator<? super T> comparator) {
+        heapsort(array, 0, array.length - 1, comparator);
+    }
 
-        if (bLEa && aLEc || cLEa && aLEb) {
-            return a;
-        } else if (aLEb && bLEc || cLEb && bLEa) {
-            return b;
-        } else {
-            return c;
+    /**
+     * Performs an in-memory heapsort of the list by int keys. Every key is
+     * extracted once into a primitive array, which is heapsorted together
+     * with the elements so that comparisons never call back into the
+     * elements.
+     *
+     * @param list list to sort
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
+     */
+    public static <T> void heapsortByInt(MyList<T> list,
+        ToIntFunction<? super T> keyExtractor) {
+        T[] array = copyToArray(list);
+        heapsortByInt(array, keyExtractor);
+        writeBack(list, array);
+    }
+
+    /**
+     * Performs an in-memory heapsort of the array by int keys. Every key is
+     * extracted once into a primitive array, which is heapsorted together
+     * with the elements so that comparisons never call back into the
+     * elements.
+     *
+     * @param array array to sort
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
+     */
+    public static <T> void heapsortByInt(T[] array,
+        ToIntFunction<? super T> keyExtractor) {
+        keyedHeapsort(intKeys(array, keyExtractor), array, 0, array.length - 1);
+    }
+
+    /**
+     * Performs an in-memory heapsort of the list by long keys. Every key is
+     * extracted once into a primitive array, which is heapsorted together
+     * with the elements so that comparisons never call back into the
+     * elements.
+     *
+     * @param list list to sort
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
+     */
+    public static <T> void heapsortByLong(MyList<T> list,
+        ToLongFunction<? super T> keyExtractor) {
+        T[] array = copyToArray(list);
+        heapsortByLong(array, keyExtractor);
+        writeBack(list, array);
+    }
+
+    /**
+     * Performs an in-memory heapsort of the array by long keys. Every key is
+     * extracted once into a primitive array, which is heapsorted together
+     * with the elements so that comparisons never call back into the
+     * elements.
+     *
+     * @param array array to sort
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
+     */
+    public static <T> void heapsortByLong(T[] array,
+        ToLongFunction<? super T> keyExtractor) {
+        keyedHeapsort(longKeys(array, keyExtractor), array, 0,
+            array.length - 1);
+    }
+
+    /**
+     * Performs an in-memory merge sort of the list on the common fork/join
+     * pool. The list is copied into an array, sorted, and written back.
+     *
+     * @param list list to sort
+     * @param <T> data type which much implement Comparable
+     */
+    public static <T extends Comparable<? super T>> void parallelMergesort(
+        MyList<T> list) {
+        parallelMergesort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Performs an in-memory merge sort of the array on the common fork/join
+     * pool. Both halves of a range are sorted in parallel and then merged in
+     * parallel, with every task sharing one scratch array. The sort is
+     * stable.
+     *
+     * @param array array to sort
+     * @param <T> data type which much implement Comparable
+     */
+    public static <T extends Comparable<? super T>> void parallelMergesort(
+        T[] array) {
+        parallelMergesort(array, Comparator.naturalOrder());
+    }
+
+    /**
+     * Performs an in-memory merge sort of the list on the common fork/join
+     * pool according to a comparator, as by parallelMergesort(MyList).
+     *
+     * @param list list to sort
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    public static <T> void parallelMergesort(MyList<T> list,
+        Comparator<? super T> comparator) {
+        T[] array = copyToArray(list);
+        parallelMergesort(array, comparator);
+        writeBack(list, array);
+    }
+
+    /**
+     * Performs an in-memory merge sort of the array on the common fork/join
+     * pool according to a comparator, as by parallelMergesort(T[]).
+     *
+     * @param array array to sort
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void parallelMergesort(T[] array,
+        Comparator<? super T> comparator) {
+        T[] temp = (T[]) new Object[array.length];
+        ForkJoinPool.commonPool().invoke(new MergesortTask<>(array, temp, 0,
+            array.length - 1, comparator));
+    }
+
+    /**
+     * Performs an in-memory quicksort of the list on the common fork/join
+     * pool. The list is copied into an array, sorted, and written back.
+     *
+     * @param list list to sort
+     * @param <T> data type which much implement Comparable
+     */
+    public static <T extends Comparable<? super T>> void parallelQuicksort(
+        MyList<T> list) {
+        parallelQuicksort(list, Comparator.naturalOrder());
+    }
+
+    /**
+     * Performs an in-memory quicksort of the array on the common fork/join
+     * pool. After each partition, both sides are sorted in parallel.
+     *
+     * @param array array to sort
+     * @param <T> data type which much implement Comparable
+     */
+    public static <T extends Comparable<? super T>> void parallelQuicksort(
+        T[] array) {
+        parallelQuicksort(array, Comparator.naturalOrder());
+    }
+
+    /**
+     * Performs an in-memory quicksort of the list on the common fork/join
+     * pool according to a comparator, as by parallelQuicksort(MyList).
+     *
+     * @param list list to sort
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    public static <T> void parallelQuicksort(MyList<T> list,
+        Comparator<? super T> comparator) {
+        T[] array = copyToArray(list);
+        parallelQuicksort(array, comparator);
+        writeBack(list, array);
+    }
+
+    /**
+     * Performs an in-memory quicksort of the array on the common fork/join
+     * pool according to a comparator, as by parallelQuicksort(T[]).
+     *
+     * @param array array to sort
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    public static <T> void parallelQuicksort(T[] array,
+        Comparator<? super T> comparator) {
+        ForkJoinPool.commonPool().invoke(new QuicksortTask<>(array, 0,
+            array.length - 1, depthLimit(array.length), comparator));
+    }
+
+    /**
+     * Performs an in-memory LSD radix sort of the array, one byte per pass.
+     * Negative values are ordered before non-negative ones by flipping the
+     * sign bit of the most significant byte. A pass is skipped when every
+     * element has the same byte, so arrays of small values need fewer
+     * passes.
+     *
+     * @param array array to sort
+     */
+    public static void radixSort(int[] array) {
+        radixSort(array, null);
+    }
+
+    /**
+     * Performs an in-memory LSD radix sort of the array, one byte per pass.
+     * Negative values are ordered before non-negative ones by flipping the
+     * sign bit of the most significant byte. A pass is skipped when every
+     * element has the same byte, so arrays of small values need fewer
+     * passes.
+     *
+     * @param array array to sort
+     */
+    public static void radixSort(long[] array) {
+        radixSort(array, null);
+    }
+
+    /**
+     * Performs an in-memory MSD radix sort of the array, distributing strings
+     * by one character at a time. Buckets smaller than a cutoff, and strings
+     * with a character above 255 at the current position, are finished with
+     * a comparison sort. Null elements are not permitted.
+     *
+     * @param array array to sort
+     */
+    public static void radixSort(String[] array) {
+        msdSort(array, new String[array.length], 0, array.length, 0);
+    }
+
+    /**
+     * Performs a stable in-memory LSD radix sort of the list by an int key.
+     * Keys are extracted once into a primitive array and sorted together
+     * with the elements, which are then written back to the list.
+     *
+     * @param list list to sort
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void radixSortByInt(MyArrayList<T> list,
+        ToIntFunction<? super T> keyExtractor) {
+        Object[] elements = list.toArray();
+        int[] keys = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = keyExtractor.applyAsInt((T) elements[i]);
+        }
+        radixSort(keys, elements);
+        for (int i = 0; i < elements.length; i++) {
+            list.set(i, (T) elements[i]);
+        }
+    }
+
+    /**
+     * Performs a stable in-memory LSD radix sort of the list by a long key.
+     * Keys are extracted once into a primitive array and sorted together
+     * with the elements, which are then written back to the list.
+     *
+     * @param list list to sort
+     * @param keyExtractor function which extracts the key of an element
+     * @param <T> data type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void radixSortByLong(MyArrayList<T> list,
+        ToLongFunction<? super T> keyExtractor) {
+        Object[] elements = list.toArray();
+        long[] keys = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = keyExtractor.applyAsLong((T) elements[i]);
+        }
+        radixSort(keys, elements);
+        for (int i = 0; i < elements.length; i++) {
+            list.set(i, (T) elements[i]);
+        }
+    }
+
+    /**
+     * Returns the element of the array at index k in sorted order, e.g. a
+     * median or a percentile, in O(n) time. The array is reordered as by
+     * nthElement(T[], int).
+     *
+     * @param array array to select from
+     * @param k index in sorted order of the element to select
+     * @return k-th smallest element, counting from 0
+     * @param <T> data type which much implement Comparable
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static <T extends Comparable<? super T>> T select(T[] array, int k)
+        throws IndexOutOfBoundsException {
+        return select(array, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the element of the array at index k in sorted order according
+     * to a comparator, as by select(T[], int).
+     *
+     * @param array array to select from
+     * @param k index in sorted order of the element to select
+     * @param comparator comparator which orders the elements
+     * @return k-th smallest element, counting from 0
+     * @param <T> data type
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static <T> T select(T[] array, int k,
+        Comparator<? super T> comparator) throws IndexOutOfBoundsException {
+        nthElement(array, k, comparator);
+        return array[k];
+    }
+
+    /**
+     * Returns the element of the list at index k in sorted order in O(n)
+     * time. The list is reordered as by nthElement(MyArrayList, int).
+     *
+     * @param list list to select from
+     * @param k index in sorted order of the element to select
+     * @return k-th smallest element, counting from 0
+     * @param <T> data type which much implement Comparable
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static <T extends Comparable<? super T>> T select(
+        MyArrayList<T> list, int k) throws IndexOutOfBoundsException {
+        return select(list, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the element of the list at index k in sorted order according
+     * to a comparator, as by select(MyArrayList, int).
+     *
+     * @param list list to select from
+     * @param k index in sorted order of the element to select
+     * @param comparator comparator which orders the elements
+     * @return k-th smallest element, counting from 0
+     * @param <T> data type
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static <T> T select(MyArrayList<T> list, int k,
+        Comparator<? super T> comparator) throws IndexOutOfBoundsException {
+        nthElement(list, k, comparator);
+        return list.get(k);
+    }
+
+    /**
+     * Returns the element of the array at index k in sorted order in O(n)
+     * time. The array is reordered as by nthElement(int[], int).
+     *
+     * @param array array to select from
+     * @param k index in sorted order of the element to select
+     * @return k-th smallest element, counting from 0
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static int select(int[] array, int k)
+        throws IndexOutOfBoundsException {
+        nthElement(array, k);
+        return array[k];
+    }
+
+    /**
+     * Returns the element of the array at index k in sorted order in O(n)
+     * time. The array is reordered as by nthElement(long[], int).
+     *
+     * @param array array to select from
+     * @param k index in sorted order of the element to select
+     * @return k-th smallest element, counting from 0
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static long select(long[] array, int k)
+        throws IndexOutOfBoundsException {
+        nthElement(array, k);
+        return array[k];
+    }
+
+    /**
+     * Partially sorts the array so that the element at index k is the one
+     * that would be there if the array were sorted, every element before it
+     * is less than or equal to it, and every element after it is greater
+     * than or equal to it. Uses introselect: quickselect with ninther pivots,
+     * falling back to median-of-medians pivots after repeated unbalanced
+     * partitions, so it runs in O(n) time even in the worst case.
+     *
+     * @param array array to partially sort
+     * @param k index in sorted order of the element to place
+     * @param <T> data type which much implement Comparable
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static <T extends Comparable<? super T>> void nthElement(
+        T[] array, int k) throws IndexOutOfBoundsException {
+        nthElement(array, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Partially sorts the array around index k according to a comparator,
+     * as by nthElement(T[], int).
+     *
+     * @param array array to partially sort
+     * @param k index in sorted order of the element to place
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static <T> void nthElement(T[] array, int k,
+        Comparator<? super T> comparator) throws IndexOutOfBoundsException {
+        checkIndex(k, array.length);
+        introselect(array, 0, array.length - 1, k, k, 0, comparator);
+    }
+
+    /**
+     * Partially sorts the list around index k in its internal array, as by
+     * nthElement(T[], int).
+     *
+     * @param list list to partially sort
+     * @param k index in sorted order of the element to place
+     * @param <T> data type which much implement Comparable
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static <T extends Comparable<? super T>> void nthElement(
+        MyArrayList<T> list, int k) throws IndexOutOfBoundsException {
+        nthElement(list, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Partially sorts the list around index k according to a comparator, as
+     * by nthElement(MyArrayList, int).
+     *
+     * @param list list to partially sort
+     * @param k index in sorted order of the element to place
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void nthElement(MyArrayList<T> list, int k,
+        Comparator<? super T> comparator) throws IndexOutOfBoundsException {
+        checkIndex(k, list.size());
+        introselect((T[]) list.internalArray(), 0, list.size() - 1, k, k, 0,
+            comparator);
+    }
+
+    /**
+     * Partially sorts the array around index k, as by nthElement(T[], int).
+     *
+     * @param array array to partially sort
+     * @param k index in sorted order of the element to place
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static void nthElement(int[] array, int k)
+        throws IndexOutOfBoundsException {
+        checkIndex(k, array.length);
+        introselect(array, 0, array.length - 1, k, k, 0);
+    }
+
+    /**
+     * Partially sorts the array around index k, as by nthElement(T[], int).
+     *
+     * @param array array to partially sort
+     * @param k index in sorted order of the element to place
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public static void nthElement(long[] array, int k)
+        throws IndexOutOfBoundsException {
+        checkIndex(k, array.length);
+        introselect(array, 0, array.length - 1, k, k, 0);
+    }
+
+    /**
+     * Sorts the k smallest elements of the array into its first k positions
+     * in O(n + k log k) time. The order of the remaining elements is
+     * unspecified. Uses the same introselect as nthElement, but only stops
+     * partitioning ranges which lie entirely beyond the first k positions.
+     *
+     * @param array array to partially sort
+     * @param k number of smallest elements to sort
+     * @param <T> data type which much implement Comparable
+     * @throws IndexOutOfBoundsException if k is negative or greater than the
+     * length of the array
+     */
+    public static <T extends Comparable<? super T>> void partialSort(
+        T[] array, int k) throws IndexOutOfBoundsException {
+        partialSort(array, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the k smallest elements of the array according to a comparator,
+     * as by partialSort(T[], int).
+     *
+     * @param array array to partially sort
+     * @param k number of smallest elements to sort
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     * @throws IndexOutOfBoundsException if k is negative or greater than the
+     * length of the array
+     */
+    public static <T> void partialSort(T[] array, int k,
+        Comparator<? super T> comparator) throws IndexOutOfBoundsException {
+        checkIndex(k, array.length + 1);
+        if (k > 0) {
+            introselect(array, 0, array.length - 1, 0, k - 1, 0, comparator);
+        }
+    }
+
+    /**
+     * Sorts the k smallest elements of the list into its first k positions
+     * in its internal array, as by partialSort(T[], int).
+     *
+     * @param list list to partially sort
+     * @param k number of smallest elements to sort
+     * @param <T> data type which much implement Comparable
+     * @throws IndexOutOfBoundsException if k is negative or greater than the
+     * size of the list
+     */
+    public static <T extends Comparable<? super T>> void partialSort(
+        MyArrayList<T> list, int k) throws IndexOutOfBoundsException {
+        partialSort(list, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the k smallest elements of the list according to a comparator,
+     * as by partialSort(MyArrayList, int).
+     *
+     * @param list list to partially sort
+     * @param k number of smallest elements to sort
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     * @throws IndexOutOfBoundsException if k is negative or greater than the
+     * size of the list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void partialSort(MyArrayList<T> list, int k,
+        Comparator<? super T> comparator) throws IndexOutOfBoundsException {
+        checkIndex(k, list.size() + 1);
+        if (k > 0) {
+            introselect((T[]) list.internalArray(), 0, list.size() - 1, 0,
+                k - 1, 0, comparator);
+        }
+    }
+
+    /**
+     * Sorts the k smallest elements of the array into its first k positions,
+     * as by partialSort(T[], int).
+     *
+     * @param array array to partially sort
+     * @param k number of smallest elements to sort
+     * @throws IndexOutOfBoundsException if k is negative or greater than the
+     * length of the array
+     */
+    public static void partialSort(int[] array, int k)
+        throws IndexOutOfBoundsException {
+        checkIndex(k, array.length + 1);
+        if (k > 0) {
+            introselect(array, 0, array.length - 1, 0, k - 1, 0);
+        }
+    }
+
+    /**
+     * Sorts the k smallest elements of the array into its first k positions,
+     * as by partialSort(T[], int).
+     *
+     * @param array array to partially sort
+     * @param k number of smallest elements to sort
+     * @throws IndexOutOfBoundsException if k is negative or greater than the
+     * length of the array
+     */
+    public static void partialSort(long[] array, int k)
+        throws IndexOutOfBoundsException {
+        checkIndex(k, array.length + 1);
+        if (k > 0) {
+            introselect(array, 0, array.length - 1, 0, k - 1, 0);
+        }
+    }
+
+    /**
+     * Internal adaptive merge sort function for a range of an array, modelled
+     * on TimSort. The range is scanned for natural runs, with strictly
+     * descending runs reversed in place; runs shorter than a minimum length
+     * are extended with binary insertion sort, and runs are merged as they
+     * are found while keeping the pending run lengths balanced. Already
+     * sorted or reversed input is sorted in O(n) time.
+     *
+     * @param array array to sort
+     * @param temp scratch array, of which only the range is used
+     * @param low index of first element of range
+     * @param high index after last element of range
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void timsort(T[] array, T[] temp, int low, int high,
+        Comparator<? super T> comparator) {
+        int remaining = high - low;
+        if (remaining < 2) {
+            return;
+        }
+        if (remaining < MIN_MERGE) {
+            int runLength = countRunAndMakeAscending(array, low, high,
+                comparator);
+            binaryInsertionSort(array, low, high, low + runLength, comparator);
+            return;
+        }
+        RunMerger<T> merger = new RunMerger<>(array, temp, comparator);
+        int minRun = minRunLength(remaining);
+        do {
+            int runLength = countRunAndMakeAscending(array, low, high,
+                comparator);
+            if (runLength < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(array, low, low + forced,
+                    low + runLength, comparator);
+                runLength = forced;
+            }
+            merger.pushRun(low, runLength);
+            merger.mergeCollapse();
+            low += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+        merger.mergeForceCollapse();
+    }
+
+    /**
+     * Returns the length of the run starting at the beginning of a range,
+     * reversing it first if it is strictly descending. Used in timsort.
+     *
+     * @param array array holding the range
+     * @param low index of first element of range
+     * @param high index after last element of range
+     * @param comparator comparator which orders the elements
+     * @return length of the ascending run at low
+     * @param <T> data type
+     */
+    private static <T> int countRunAndMakeAscending(T[] array, int low,
+        int high, Comparator<? super T> comparator) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+        // Descending runs must be strict so that reversing them is stable
+        if (comparator.compare(array[runHigh++], array[low]) < 0) {
+            while (runHigh < high
+                && comparator.compare(array[runHigh], array[runHigh - 1]) < 0) {
+                runHigh++;
+            }
+            for (int i = low, j = runHigh - 1; i < j; i++, j--) {
+                swap(array, i, j);
+            }
+        } else {
+            while (runHigh < high
+                && comparator.compare(array[runHigh], array[runHigh - 1])
+                >= 0) {
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+
+    /**
+     * Binary insertion sort function for a range of an array whose prefix is
+     * already sorted. Each element is inserted after any equal elements,
+     * which keeps the sort stable. Used in timsort.
+     *
+     * @param array array holding the range
+     * @param low index of first element of range
+     * @param high index after last element of range
+     * @param start index of first element not known to be sorted
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void binaryInsertionSort(T[] array, int low, int high,
+        int start, Comparator<? super T> comparator) {
+        for (; start < high; start++) {
+            T pivot = array[start];
+            int left = low;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, array[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(array, left, array, left + 1, start - left);
+            array[left] = pivot;
+        }
+    }
+
+    /**
+     * Returns the minimum run length for a range, chosen between
+     * MIN_MERGE / 2 and MIN_MERGE so that the number of runs is a power of
+     * two or slightly less, which keeps the final merges balanced.
+     *
+     * @param length number of elements in range
+     * @return minimum run length
+     */
+    private static int minRunLength(int length) {
+        int lowBits = 0;
+        while (length >= MIN_MERGE) {
+            lowBits |= length & 1;
+            length >>= 1;
+        }
+        return length + lowBits;
+    }
+
+    /**
+     * Returns the leftmost position at which a key could be inserted into a
+     * sorted range, galloping outwards from a hint before binary searching.
+     * Used in timsort merges.
+     *
+     * @param key key to find the position of
+     * @param array array holding the range
+     * @param base index of first element of range
+     * @param length number of elements in range
+     * @param hint offset within the range to start searching from
+     * @param comparator comparator which orders the elements
+     * @return offset k such that array[base + k - 1] &lt; key &lt;=
+     * array[base + k]
+     * @param <T> data type
+     */
+    private static <T> int gallopLeft(T key, T[] array, int base, int length,
+        int hint, Comparator<? super T> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (comparator.compare(key, array[base + hint]) > 0) {
+            int maxOffset = length - hint;
+            while (offset < maxOffset
+                && comparator.compare(key, array[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset
+                && comparator.compare(key, array[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        }
+        // Now array[base + lastOffset] < key <= array[base + offset]
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, array[base + mid]) > 0) {
+                lastOffset = mid + 1;
+            } else {
+                offset = mid;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the rightmost position at which a key could be inserted into a
+     * sorted range, galloping outwards from a hint before binary searching.
+     * Used in timsort merges.
+     *
+     * @param key key to find the position of
+     * @param array array holding the range
+     * @param base index of first element of range
+     * @param length number of elements in range
+     * @param hint offset within the range to start searching from
+     * @param comparator comparator which orders the elements
+     * @return offset k such that array[base + k - 1] &lt;= key &lt;
+     * array[base + k]
+     * @param <T> data type
+     */
+    private static <T> int gallopRight(T key, T[] array, int base, int length,
+        int hint, Comparator<? super T> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (comparator.compare(key, array[base + hint]) < 0) {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset
+                && comparator.compare(key, array[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        } else {
+            int maxOffset = length - hint;
+            while (offset < maxOffset
+                && comparator.compare(key, array[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        }
+        // Now array[base + lastOffset] <= key < array[base + offset]
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, array[base + mid]) < 0) {
+                offset = mid;
+            } else {
+                lastOffset = mid + 1;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Internal introsort function for lists. Partitions the range until it
+     * is small enough for insertion sort, recursing into the smaller side and
+     * looping on the larger one so that the stack depth stays logarithmic.
+     * Once the depth limit is used up, the rest of the range is heapsorted.
+     *
+     * @param list list to sort
+     * @param left left index
+     * @param right right index
+     * @param depthLimit number of partitions allowed before heapsorting
+     * @param bounds scratch array receiving the bounds of each partition
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void introsort(MyList<T> list, int left, int right,
+        int depthLimit, int[] bounds, Comparator<? super T> comparator) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapsort(list, left, right, comparator);
+                return;
+            }
+            partition(list, left, right, bounds, comparator);
+            int equalStart = bounds[0];
+            int equalEnd = bounds[1];
+            if (equalStart - left < right - equalEnd) {
+                introsort(list, left, equalStart - 1, depthLimit, bounds,
+                    comparator);
+                left = equalEnd + 1;
+            } else {
+                introsort(list, equalEnd + 1, right, depthLimit, bounds,
+                    comparator);
+                right = equalStart - 1;
+            }
+        }
+        insertionSort(list, left, right, comparator);
+    }
+
+    /**
+     * Three-way partition function for quicksort for lists. Afterwards,
+     * elements less than the pivot come first, then elements equal to it,
+     * then elements greater than it, so runs of equal elements are never
+     * partitioned again.
+     *
+     * @param list list to sort
+     * @param left left index
+     * @param right right index
+     * @param bounds array receiving the indices of the first and last
+     * elements equal to the pivot
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void partition(MyList<T> list, int left, int right,
+        int[] bounds, Comparator<? super T> comparator) {
+        T pivot = choosePivot(list, left, right, comparator);
+        int less = left;
+        int greater = right;
+        int index = left;
+        while (index <= greater) {
+            int comparison = comparator.compare(list.get(index), pivot);
+            if (comparison < 0) {
+                swap(list, less++, index++);
+            } else if (comparison > 0) {
+                swap(list, index, greater--);
+            } else {
+                index++;
+            }
+        }
+        bounds[0] = less;
+        bounds[1] = greater;
+    }
+
+    /**
+     * Chooses a quicksort pivot for a range of a list: the median of the
+     * first, middle and last elements, or for large ranges the median of
+     * three such medians (Tukey's ninther).
+     *
+     * @param list list to sort
+     * @param left left index
+     * @param right right index
+     * @param comparator comparator which orders the elements
+     * @return pivot value
+     * @param <T> data type
+     */
+    private static <T> T choosePivot(MyList<T> list, int left, int right,
+        Comparator<? super T> comparator) {
+        int mid = (left + right) >>> 1;
+        if (right - left < NINTHER_THRESHOLD) {
+            return findMedian(list.get(left), list.get(mid), list.get(right),
+                comparator);
+        }
+        int step = (right - left) / 8;
+        return findMedian(
+            findMedian(list.get(left), list.get(left + step),
+                list.get(left + 2 * step), comparator),
+            findMedian(list.get(mid - step), list.get(mid),
+                list.get(mid + step), comparator),
+            findMedian(list.get(right - 2 * step), list.get(right - step),
+                list.get(right), comparator),
+            comparator
+        );
+    }
+
+    /**
+     * Insertion sort function for small ranges of lists.
+     *
+     * @param list list to sort
+     * @param left left index
+     * @param right right index
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void insertionSort(MyList<T> list, int left, int right,
+        Comparator<? super T> comparator) {
+        for (int i = left + 1; i <= right; i++) {
+            T element = list.get(i);
+            int j = i - 1;
+            while (j >= left && comparator.compare(list.get(j), element) > 0) {
+                list.set(j + 1, list.get(j));
+                j--;
+            }
+            list.set(j + 1, element);
+        }
+    }
+
+    /**
+     * Heapsort function for a range of a list, which builds a max heap in
+     * place over the range. Used as the introsort fallback.
+     *
+     * @param list list to sort
+     * @param left left index
+     * @param right right index
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void heapsort(MyList<T> list, int left, int right,
+        Comparator<? super T> comparator) {
+        int length = right - left + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(list, left, i, length, comparator);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(list, left, left + end);
+            siftDown(list, left, 0, end, comparator);
+        }
+    }
+
+    /**
+     * Moves an element of a max heap stored in a range of a list down until
+     * neither of its children is greater. Used in heapsort.
+     *
+     * @param list list holding the heap
+     * @param offset index of the root of the heap
+     * @param index heap index of the element to move
+     * @param length number of elements in the heap
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void siftDown(MyList<T> list, int offset, int index,
+        int length, Comparator<? super T> comparator) {
+        T element = list.get(offset + index);
+        int child = 2 * index + 1;
+        while (child < length) {
+            if (child + 1 < length && comparator.compare(
+                list.get(offset + child + 1), list.get(offset + child)) > 0) {
+                child++;
+            }
+            if (comparator.compare(list.get(offset + child), element) <= 0) {
+                break;
+            }
+            list.set(offset + index, list.get(offset + child));
+            index = child;
+            child = 2 * index + 1;
+        }
+        list.set(offset + index, element);
+    }
+
+    /**
+     * Swaps two elements of a list.
+     *
+     * @param list list holding the elements
+     * @param i index of first element
+     * @param j index of second element
+     * @param <T> data type
+     */
+    private static <T> void swap(MyList<T> list, int i, int j) {
+        T temp = list.get(i);
+        list.set(i, list.get(j));
+        list.set(j, temp);
+    }
+
+    /**
+     * Internal introsort function for arrays. Partitions the range until it
+     * is small enough for insertion sort, recursing into the smaller side and
+     * looping on the larger one so that the stack depth stays logarithmic.
+     * Once the depth limit is used up, the rest of the range is heapsorted.
+     *
+     * @param array array to sort
+     * @param left left index
+     * @param right right index
+     * @param depthLimit number of partitions allowed before heapsorting
+     * @param bounds scratch array receiving the bounds of each partition
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void introsort(T[] array, int left, int right,
+        int depthLimit, int[] bounds, Comparator<? super T> comparator) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapsort(array, left, right, comparator);
+                return;
+            }
+            partition(array, left, right,
+                choosePivot(array, left, right, comparator), bounds,
+                comparator);
+            int equalStart = bounds[0];
+            int equalEnd = bounds[1];
+            if (equalStart - left < right - equalEnd) {
+                introsort(array, left, equalStart - 1, depthLimit, bounds,
+                    comparator);
+                left = equalEnd + 1;
+            } else {
+                introsort(array, equalEnd + 1, right, depthLimit, bounds,
+                    comparator);
+                right = equalStart - 1;
+            }
+        }
+        insertionSort(array, left, right, comparator);
+    }
+
+    /**
+     * Three-way partition function for quicksort and introselect for arrays.
+     * Afterwards, elements less than the pivot come first, then elements
+     * equal to it, then elements greater than it, so runs of equal elements
+     * are never partitioned again.
+     *
+     * @param array array to sort
+     * @param left left index
+     * @param right right index
+     * @param pivot pivot value, which must be an element of the range
+     * @param bounds array receiving the indices of the first and last
+     * elements equal to the pivot
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void partition(T[] array, int left, int right,
+        T pivot, int[] bounds, Comparator<? super T> comparator) {
+        int less = left;
+        int greater = right;
+        int index = left;
+        while (index <= greater) {
+            int comparison = comparator.compare(array[index], pivot);
+            if (comparison < 0) {
+                swap(array, less++, index++);
+            } else if (comparison > 0) {
+                swap(array, index, greater--);
+            } else {
+                index++;
+            }
+        }
+        bounds[0] = less;
+        bounds[1] = greater;
+    }
+
+    /**
+     * Chooses a quicksort pivot for a range of an array: the median of the
+     * first, middle and last elements, or for large ranges the median of
+     * three such medians (Tukey's ninther).
+     *
+     * @param array array to sort
+     * @param left left index
+     * @param right right index
+     * @param comparator comparator which orders the elements
+     * @return pivot value
+     * @param <T> data type
+     */
+    private static <T> T choosePivot(T[] array, int left, int right,
+        Comparator<? super T> comparator) {
+        int mid = (left + right) >>> 1;
+        if (right - left < NINTHER_THRESHOLD) {
+            return findMedian(array[left], array[mid], array[right],
+                comparator);
+        }
+        int step = (right - left) / 8;
+        return findMedian(
+            findMedian(array[left], array[left + step],
+                array[left + 2 * step], comparator),
+            findMedian(array[mid - step], array[mid], array[mid + step],
+                comparator),
+            findMedian(array[right - 2 * step], array[right - step],
+                array[right], comparator),
+            comparator
+        );
+    }
+
+    /**
+     * Insertion sort function for small ranges of arrays.
+     *
+     * @param array array to sort
+     * @param left left index
+     * @param right right index
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void insertionSort(T[] array, int left, int right,
+        Comparator<? super T> comparator) {
+        for (int i = left + 1; i <= right; i++) {
+            T element = array[i];
+            int j = i - 1;
+            while (j >= left && comparator.compare(array[j], element) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = element;
+        }
+    }
+
+    /**
+     * Heapsort function for a range of an array, which builds a max heap in
+     * place over the range. Used in heapsort and as the introsort fallback.
+     *
+     * @param array array to sort
+     * @param left left index
+     * @param right right index
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void heapsort(T[] array, int left, int right,
+        Comparator<? super T> comparator) {
+        int length = right - left + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(array, left, i, length, comparator);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, left, left + end);
+            siftDown(array, left, 0, end, comparator);
+        }
+    }
+
+    /**
+     * Moves an element of a max heap stored in a range of an array down until
+     * neither of its children is greater. Used in heapsort.
+     *
+     * @param array array holding the heap
+     * @param offset index of the root of the heap
+     * @param index heap index of the element to move
+     * @param length number of elements in the heap
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void siftDown(T[] array, int offset, int index,
+        int length, Comparator<? super T> comparator) {
+        T element = array[offset + index];
+        int child = 2 * index + 1;
+        while (child < length) {
+            if (child + 1 < length && comparator.compare(
+                array[offset + child + 1], array[offset + child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(array[offset + child], element) <= 0) {
+                break;
+            }
+            array[offset + index] = array[offset + child];
+            index = child;
+            child = 2 * index + 1;
+        }
+        array[offset + index] = element;
+    }
+
+    /**
+     * Swaps two elements of an array.
+     *
+     * @param array array holding the elements
+     * @param i index of first element
+     * @param j index of second element
+     * @param <T> data type
+     */
+    private static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Finds the median of three values. Used for quicksort.
+     *
+     * @param a first value
+     * @param b second value
+     * @param c third value
+     * @param comparator comparator which orders the elements
+     * @return the median of the first, second, and third values
+     * @param <T> data type
+     */
+    private static <T> T findMedian(T a, T b, T c,
+        Comparator<? super T> comparator) {
+        if (comparator.compare(a, b) < 0) {
+            if (comparator.compare(b, c) < 0) {
+                return b;
+            }
+            return comparator.compare(a, c) < 0 ? c : a;
+        }
+        if (comparator.compare(a, c) < 0) {
+            return a;
+        }
+        return comparator.compare(b, c) < 0 ? c : b;
+    }
+
+    /**
+     * Internal introselect function for a range of an array. Afterwards,
+     * every position from "from" to "to" holds the element it would hold if
+     * the range were sorted, those positions are sorted, and every other
+     * element is on the correct side of them. Ranges lying entirely outside
+     * the positions are never partitioned again. Pivots are ninthers until
+     * MAX_BAD_PARTITIONS partitions have been unbalanced, and medians of
+     * medians from then on.
+     *
+     * @param array array to partially sort
+     * @param left left index
+     * @param right right index
+     * @param from first position to place
+     * @param to last position to place
+     * @param badPartitions number of unbalanced partitions so far
+     * @param comparator comparator which orders the elements
+     * @param <T> data type
+     */
+    private static <T> void introselect(T[] array, int left, int right,
+        int from, int to, int badPartitions,
+        Comparator<? super T> comparator) {
+        int[] bounds = new int[2];
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            int length = right - left + 1;
+            T pivot = badPartitions < MAX_BAD_PARTITIONS
+                ? choosePivot(array, left, right, comparator)
+                : medianOfMedians(array, left, right, comparator);
+            partition(array, left, right, pivot, bounds, comparator);
+            int equalStart = bounds[0];
+            int equalEnd = bounds[1];
+            boolean selectLeft = from < equalStart;
+            boolean selectRight = to > equalEnd;
+            if (selectLeft && selectRight) {
+                // Both sides are partitioned further, as in quicksort, so
+                // only a lopsided split counts as unbalanced
+                if (Math.min(equalStart - left, right - equalEnd)
+                    < length / UNBALANCED_FRACTION) {
+                    badPartitions++;
+                }
+                if (equalStart - left < right - equalEnd) {
+                    introselect(array, left, equalStart - 1, from, to,
+                        badPartitions, comparator);
+                    left = equalEnd + 1;
+                } else {
+                    introselect(array, equalEnd + 1, right, from, to,
+                        badPartitions, comparator);
+                    right = equalStart - 1;
+                }
+                continue;
+            } else if (selectLeft) {
+                right = equalStart - 1;
+            } else if (selectRight) {
+                left = equalEnd + 1;
+            } else {
+                return;
+            }
+            if (right - left + 1 > length / 2) {
+                badPartitions++;
+            }
+        }
+        insertionSort(array, left, right, comparator);
+    }
+
+    /**
+     * Returns a pivot for a range of an array which is guaranteed to leave
+     * at least 30% of the range on either side: the range is split into
+     * groups of five, the median of each group is moved to the front of the
+     * range, and the median of those medians is selected recursively. Used
+     * in introselect.
+     *
+     * @param array array to partially sort
+     * @param left left index
+     * @param right right index
+     * @param comparator comparator which orders the elements
+     * @return pivot value
+     * @param <T> data type
+     */
+    private static <T> T medianOfMedians(T[] array, int left, int right,
+        Comparator<? super T> comparator) {
+        int medians = left;
+        for (int i = left; i <= right; i += 5) {
+            int end = Math.min(i + 4, right);
+            insertionSort(array, i, end, comparator);
+            swap(array, medians++, (i + end) >>> 1);
+        }
+        int mid = (left + medians - 1) >>> 1;
+        introselect(array, left, medians - 1, mid, mid, MAX_BAD_PARTITIONS,
+            comparator);
+        return array[mid];
+    }
+
+    /**
+     * Internal introselect function for a range of an int array, as for
+     * arrays of objects, with median-of-three pivots until the fallback.
+     *
+     * @param array array to partially sort
+     * @param left left index
+     * @param right right index
+     * @param from first position to place
+     * @param to last position to place
+     * @param badPartitions number of unbalanced partitions so far
+     */
+    private static void introselect(int[] array, int left, int right,
+        int from, int to, int badPartitions) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            int length = right - left + 1;
+            int pivot;
+            if (badPartitions < MAX_BAD_PARTITIONS) {
+                int first = array[left];
+                int middle = array[(left + right) >>> 1];
+                pivot = Math.max(Math.min(first, middle),
+                    Math.min(Math.max(first, middle), array[right]));
+            } else {
+                pivot = medianOfMedians(array, left, right);
+            }
+            int less = left;
+            int greater = right;
+            int index = left;
+            while (index <= greater) {
+                if (array[index] < pivot) {
+                    swap(array, less++, index++);
+                } else if (array[index] > pivot) {
+                    swap(array, index, greater--);
+                } else {
+                    index++;
+                }
+            }
+            boolean selectLeft = from < less;
+            boolean selectRight = to > greater;
+            if (selectLeft && selectRight) {
+                if (Math.min(less - left, right - greater)
+                    < length / UNBALANCED_FRACTION) {
+                    badPartitions++;
+                }
+                if (less - left < right - greater) {
+                    introselect(array, left, less - 1, from, to,
+                        badPartitions);
+                    left = greater + 1;
+                } else {
+                    introselect(array, greater + 1, right, from, to,
+                        badPartitions);
+                    right = less - 1;
+                }
+                continue;
+            } else if (selectLeft) {
+                right = less - 1;
+            } else if (selectRight) {
+                left = greater + 1;
+            } else {
+                return;
+            }
+            if (right - left + 1 > length / 2) {
+                badPartitions++;
+            }
+        }
+        insertionSort(array, left, right);
+    }
+
+    /**
+     * Returns a median-of-medians pivot for a range of an int array. Used in
+     * introselect.
+     *
+     * @param array array to partially sort
+     * @param left left index
+     * @param right right index
+     * @return pivot value
+     */
+    private static int medianOfMedians(int[] array, int left, int right) {
+        int medians = left;
+        for (int i = left; i <= right; i += 5) {
+            int end = Math.min(i + 4, right);
+            insertionSort(array, i, end);
+            swap(array, medians++, (i + end) >>> 1);
+        }
+        int mid = (left + medians - 1) >>> 1;
+        introselect(array, left, medians - 1, mid, mid, MAX_BAD_PARTITIONS);
+        return array[mid];
+    }
+
+    /**
+     * Insertion sort function for small ranges of int arrays.
+     *
+     * @param array array to sort
+     * @param left left index
+     * @param right right index
+     */
+    private static void insertionSort(int[] array, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            int element = array[i];
+            int j = i - 1;
+            while (j >= left && array[j] > element) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = element;
+        }
+    }
+
+    /**
+     * Swaps two elements of an int array.
+     *
+     * @param array array to swap in
+     * @param i index of first element
+     * @param j index of second element
+     */
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Internal introselect function for a range of a long array, as for
+     * arrays of objects, with median-of-three pivots until the fallback.
+     *
+     * @param array array to partially sort
+     * @param left left index
+     * @param right right index
+     * @param from first position to place
+     * @param to last position to place
+     * @param badPartitions number of unbalanced partitions so far
+     */
+    private static void introselect(long[] array, int left, int right,
+        int from, int to, int badPartitions) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            int length = right - left + 1;
+            long pivot;
+            if (badPartitions < MAX_BAD_PARTITIONS) {
+                long first = array[left];
+                long middle = array[(left + right) >>> 1];
+                pivot = Math.max(Math.min(first, middle),
+                    Math.min(Math.max(first, middle), array[right]));
+            } else {
+                pivot = medianOfMedians(array, left, right);
+            }
+            int less = left;
+            int greater = right;
+            int index = left;
+            while (index <= greater) {
+                if (array[index] < pivot) {
+                    swap(array, less++, index++);
+                } else if (array[index] > pivot) {
+                    swap(array, index, greater--);
+                } else {
+                    index++;
+                }
+            }
+            boolean selectLeft = from < less;
+            boolean selectRight = to > greater;
+            if (selectLeft && selectRight) {
+                if (Math.min(less - left, right - greater)
+                    < length / UNBALANCED_FRACTION) {
+                    badPartitions++;
+                }
+                if (less - left < right - greater) {
+                    introselect(array, left, less - 1, from, to,
+                        badPartitions);
+                    left = greater + 1;
+                } else {
+                    introselect(array, greater + 1, right, from, to,
+                        badPartitions);
+                    right = less - 1;
+                }
+                continue;
+            } else if (selectLeft) {
+                right = less - 1;
+            } else if (selectRight) {
+                left = greater + 1;
+            } else {
+                return;
+            }
+            if (right - left + 1 > length / 2) {
+                badPartitions++;
+            }
+        }
+        insertionSort(array, left, right);
+    }
+
+    /**
+     * Returns a median-of-medians pivot for a range of a long array. Used in
+     * introselect.
+     *
+     * @param array array to partially sort
+     * @param left left index
+     * @param right right index
+     * @return pivot value
+     */
+    private static long medianOfMedians(long[] array, int left, int right) {
+        int medians = left;
+        for (int i = left; i <= right; i += 5) {
+            int end = Math.min(i + 4, right);
+            insertionSort(array, i, end);
+            swap(array, medians++, (i + end) >>> 1);
+        }
+        int mid = (left + medians - 1) >>> 1;
+        introselect(array, left, medians - 1, mid, mid, MAX_BAD_PARTITIONS);
+        return array[mid];
+    }
+
+    /**
+     * Insertion sort function for small ranges of long arrays.
+     *
+     * @param array array to sort
+     * @param left left index
+     * @param right right index
+     */
+    private static void insertionSort(long[] array, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            long element = array[i];
+            int j = i - 1;
+            while (j >= left && array[j] > element) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = element;
+        }
+    }
+
+    /**
+     * Swaps two elements of a long array.
+     *
+     * @param array array to swap in
+     * @param i index of first element
+     * @param j index of second element
+     */
+    private static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * Internal LSD radix sort function for int keys, optionally moving an
+     * array of values along with them. The histograms of all passes are
+     * counted in a single scan, and passes alternate between the input
+     * arrays and one pair of buffers.
+     *
+     * @param keys keys to sort
+     * @param values values to reorder with keys, or null
+     */
+    private static void radixSort(int[] keys, Object[] values) {
+        int length = keys.length;
+        int passes = Integer.SIZE / RADIX_BITS;
+        int[][] counts = new int[passes][RADIX];
+        for (int key : keys) {
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][intDigit(key, pass, passes)]++;
+            }
+        }
+        int[] sourceKeys = keys;
+        int[] targetKeys = new int[length];
+        Object[] sourceValues = values;
+        Object[] targetValues = values == null ? null : new Object[length];
+        for (int pass = 0; pass < passes; pass++) {
+            int[] count = counts[pass];
+            if (length == 0
+                || count[intDigit(sourceKeys[0], pass, passes)] == length) {
+                continue;
+            }
+            int position = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int digitCount = count[digit];
+                count[digit] = position;
+                position += digitCount;
+            }
+            for (int i = 0; i < length; i++) {
+                int target = count[intDigit(sourceKeys[i], pass, passes)]++;
+                targetKeys[target] = sourceKeys[i];
+                if (values != null) {
+                    targetValues[target] = sourceValues[i];
+                }
+            }
+            int[] tempKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = tempKeys;
+            Object[] tempValues = sourceValues;
+            sourceValues = targetValues;
+            targetValues = tempValues;
+        }
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, length);
+            if (values != null) {
+                System.arraycopy(sourceValues, 0, values, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Internal LSD radix sort function for long keys, optionally moving an
+     * array of values along with them. The histograms of all passes are
+     * counted in a single scan, and passes alternate between the input
+     * arrays and one pair of buffers.
+     *
+     * @param keys keys to sort
+     * @param values values to reorder with keys, or null
+     */
+    private static void radixSort(long[] keys, Object[] values) {
+        int length = keys.length;
+        int passes = Long.SIZE / RADIX_BITS;
+        int[][] counts = new int[passes][RADIX];
+        for (long key : keys) {
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][longDigit(key, pass, passes)]++;
+            }
+        }
+        long[] sourceKeys = keys;
+        long[] targetKeys = new long[length];
+        Object[] sourceValues = values;
+        Object[] targetValues = values == null ? null : new Object[length];
+        for (int pass = 0; pass < passes; pass++) {
+            int[] count = counts[pass];
+            if (length == 0
+                || count[longDigit(sourceKeys[0], pass, passes)] == length) {
+                continue;
+            }
+            int position = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int digitCount = count[digit];
+                count[digit] = position;
+                position += digitCount;
+            }
+            for (int i = 0; i < length; i++) {
+                int target = count[longDigit(sourceKeys[i], pass, passes)]++;
+                targetKeys[target] = sourceKeys[i];
+                if (values != null) {
+                    targetValues[target] = sourceValues[i];
+                }
+            }
+            long[] tempKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = tempKeys;
+            Object[] tempValues = sourceValues;
+            sourceValues = targetValues;
+            targetValues = tempValues;
+        }
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, length);
+            if (values != null) {
+                System.arraycopy(sourceValues, 0, values, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Returns one byte of an int key for a radix sort pass, with the sign bit
+     * flipped in the most significant byte so negative keys sort first.
+     *
+     * @param key key to take the byte of
+     * @param pass pass number, starting from the least significant byte
+     * @param passes total number of passes
+     * @return digit between 0 and RADIX - 1
+     */
+    private static int intDigit(int key, int pass, int passes) {
+        int digit = (key >>> (pass * RADIX_BITS)) & (RADIX - 1);
+        return pass == passes - 1 ? digit ^ (RADIX >>> 1) : digit;
+    }
+
+    /**
+     * Returns one byte of a long key for a radix sort pass, with the sign bit
+     * flipped in the most significant byte so negative keys sort first.
+     *
+     * @param key key to take the byte of
+     * @param pass pass number, starting from the least significant byte
+     * @param passes total number of passes
+     * @return digit between 0 and RADIX - 1
+     */
+    private static int longDigit(long key, int pass, int passes) {
+        int digit = (int) (key >>> (pass * RADIX_BITS)) & (RADIX - 1);
+        return pass == passes - 1 ? digit ^ (RADIX >>> 1) : digit;
+    }
+
+    /**
+     * Internal MSD radix sort function for a range of strings which share
+     * their first depth characters. Strings are distributed by the character
+     * at depth into buckets: one for strings which end before it, one for
+     * each character up to 255, and one for all greater characters, which
+     * is finished with a comparison sort. Ranges below a cutoff are
+     * comparison sorted. The largest bucket is sorted by the next iteration
+     * of the loop rather than by recursion, so a long common prefix costs no
+     * stack and the recursion depth stays logarithmic in the range length.
+     *
+     * @param array array to sort
+     * @param temp scratch array, of which only the range is used
+     * @param low index of first element of range
+     * @param high index after last element of range
+     * @param depth number of leading characters shared by the range
+     */
+    private static void msdSort(String[] array, String[] temp, int low,
+        int high, int depth) {
+        int buckets = RADIX + 2;
+        while (high - low >= RADIX_SORT_CUTOFF) {
+            int[] count = new int[buckets + 1];
+            for (int i = low; i < high; i++) {
+                count[charBucket(array[i], depth) + 1]++;
+            }
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                count[bucket + 1] += count[bucket];
+            }
+            for (int i = low; i < high; i++) {
+                temp[low + count[charBucket(array[i], depth)]++] = array[i];
+            }
+            System.arraycopy(temp, low, array, low, high - low);
+            // Bucket b now spans count[b - 1] to count[b]; bucket 0 is done
+            int largest = 1;
+            for (int bucket = 2; bucket < buckets - 1; bucket++) {
+                if (count[bucket] - count[bucket - 1]
+                    > count[largest] - count[largest - 1]) {
+                    largest = bucket;
+                }
+            }
+            for (int bucket = 1; bucket < buckets - 1; bucket++) {
+                if (bucket != largest) {
+                    msdSort(array, temp, low + count[bucket - 1],
+                        low + count[bucket], depth + 1);
+                }
+            }
+            timsort(array, temp, low + count[buckets - 2],
+                low + count[buckets - 1], Comparator.naturalOrder());
+            high = low + count[largest];
+            low += count[largest - 1];
+            depth++;
+        }
+        timsort(array, temp, low, high, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the MSD radix sort bucket of a string at a depth.
+     *
+     * @param string string to bucket
+     * @param depth index of character to bucket by
+     * @return 0 if string ends before depth, the character plus 1 if it is
+     * at most 255, or RADIX + 1 otherwise
+     */
+    private static int charBucket(String string, int depth) {
+        if (depth >= string.length()) {
+            return 0;
+        }
+        return Math.min(string.charAt(depth), RADIX) + 1;
+    }
+
+    /**
+     * Extracts the int key of every element of an array, widened to long.
+     * Used in key extractor sorts.
+     *
+     * @param array array of elements
+     * @param keyExtractor function which extracts the key of an element
+     * @return array of keys, in element order
+     * @param <T> data type
+     */
+    private static <T> long[] intKeys(T[] array,
+        ToIntFunction<? super T> keyExtractor) {
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = keyExtractor.applyAsInt(array[i]);
+        }
+        return keys;
+    }
+
+    /**
+     * Extracts the long key of every element of an array. Used in key
+     * extractor sorts.
+     *
+     * @param array array of elements
+     * @param keyExtractor function which extracts the key of an element
+     * @return array of keys, in element order
+     * @param <T> data type
+     */
+    private static <T> long[] longKeys(T[] array,
+        ToLongFunction<? super T> keyExtractor) {
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(array[i]);
+        }
+        return keys;
+    }
+
+    /**
+     * Internal stable merge sort function for keys with an array of values
+     * moved along with them. Blocks of MIN_MERGE elements are insertion
+     * sorted, then merged bottom-up, alternating between the input arrays and
+     * one pair of buffers.
+     *
+     * @param keys keys to sort
+     * @param values values to reorder with keys
+     */
+    private static void keyedMergesort(long[] keys, Object[] values) {
+        int length = keys.length;
+        for (int low = 0; low < length; low += MIN_MERGE) {
+            keyedInsertionSort(keys, values, low,
+                Math.min(low + MIN_MERGE, length) - 1);
+        }
+        if (length <= MIN_MERGE) {
+            return;
+        }
+        long[] sourceKeys = keys;
+        long[] targetKeys = new long[length];
+        Object[] sourceValues = values;
+        Object[] targetValues = new Object[length];
+        for (int width = MIN_MERGE; width < length;
+            width = width > length / 2 ? length : width * 2) {
+            int high;
+            for (int low = 0; low < length; low = high) {
+                int mid = length - low > width ? low + width : length;
+                high = length - mid > width ? mid + width : length;
+                int left = low;
+                int right = mid;
+                for (int i = low; i < high; i++) {
+                    if (right >= high
+                        || left < mid
+                        && sourceKeys[left] <= sourceKeys[right]) {
+                        targetKeys[i] = sourceKeys[left];
+                        targetValues[i] = sourceValues[left++];
+                    } else {
+                        targetKeys[i] = sourceKeys[right];
+                        targetValues[i] = sourceValues[right++];
+                    }
+                }
+            }
+            long[] tempKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = tempKeys;
+            Object[] tempValues = sourceValues;
+            sourceValues = targetValues;
+            targetValues = tempValues;
+        }
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, length);
+            System.arraycopy(sourceValues, 0, values, 0, length);
+        }
+    }
+
+    /**
+     * Internal introsort function for keys with an array of values moved
+     * along with them, partitioning three ways around a median-of-three key.
+     *
+     * @param keys keys to sort
+     * @param values values to reorder with keys
+     * @param left left index
+     * @param right right index
+     * @param depthLimit number of partitions allowed before heapsorting
+     */
+    private static void keyedIntrosort(long[] keys, Object[] values, int left,
+        int right, int depthLimit) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                keyedHeapsort(keys, values, left, right);
+                return;
+            }
+            long first = keys[left];
+            long middle = keys[(left + right) >>> 1];
+            long pivot = Math.max(Math.min(first, middle),
+                Math.min(Math.max(first, middle), keys[right]));
+            int less = left;
+            int greater = right;
+            int index = left;
+            while (index <= greater) {
+                if (keys[index] < pivot) {
+                    keyedSwap(keys, values, less++, index++);
+                } else if (keys[index] > pivot) {
+                    keyedSwap(keys, values, index, greater--);
+                } else {
+                    index++;
+                }
+            }
+            if (less - left < right - greater) {
+                keyedIntrosort(keys, values, left, less - 1, depthLimit);
+                left = greater + 1;
+            } else {
+                keyedIntrosort(keys, values, greater + 1, right, depthLimit);
+                right = less - 1;
+            }
+        }
+        keyedInsertionSort(keys, values, left, right);
+    }
+
+    /**
+     * Internal heapsort function for a range of keys with an array of values
+     * moved along with them.
+     *
+     * @param keys keys to sort
+     * @param values values to reorder with keys
+     * @param left left index
+     * @param right right index
+     */
+    private static void keyedHeapsort(long[] keys, Object[] values, int left,
+        int right) {
+        int length = right - left + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            keyedSiftDown(keys, values, left, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            keyedSwap(keys, values, left, left + end);
+            keyedSiftDown(keys, values, left, 0, end);
+        }
+    }
+
+    /**
+     * Moves an entry of a max heap of keys down until neither of its children
+     * has a greater key. Used in keyedHeapsort.
+     *
+     * @param keys keys holding the heap
+     * @param values values moved along with keys
+     * @param offset index of the root of the heap
+     * @param index heap index of the entry to move
+     * @param length number of entries in the heap
+     */
+    private static void keyedSiftDown(long[] keys, Object[] values,
+        int offset, int index, int length) {
+        long key = keys[offset + index];
+        Object value = values[offset + index];
+        int child = 2 * index + 1;
+        while (child < length) {
+            if (child + 1 < length
+                && keys[offset + child + 1] > keys[offset + child]) {
+                child++;
+            }
+            if (keys[offset + child] <= key) {
+                break;
+            }
+            keys[offset + index] = keys[offset + child];
+            values[offset + index] = values[offset + child];
+            index = child;
+            child = 2 * index + 1;
+        }
+        keys[offset + index] = key;
+        values[offset + index] = value;
+    }
+
+    /**
+     * Insertion sort function for small ranges of keys with an array of
+     * values moved along with them.
+     *
+     * @param keys keys to sort
+     * @param values values to reorder with keys
+     * @param left left index
+     * @param right right index
+     */
+    private static void keyedInsertionSort(long[] keys, Object[] values,
+        int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            long key = keys[i];
+            Object value = values[i];
+            int j = i - 1;
+            while (j >= left && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    /**
+     * Swaps two keys and their values.
+     *
+     * @param keys array of keys
+     * @param values array of values
+     * @param i index of first entry
+     * @param j index of second entry
+     */
+    private static void keyedSwap(long[] keys, Object[] values, int i, int j) {
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        Object value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    /**
+     * Helper function for index validation.
+     *
+     * @param index index to validate
+     * @param upperBound value that index must be strictly less than
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    private static void checkIndex(int index, int upperBound)
+        throws IndexOutOfBoundsException {
+        if (index < 0 || index >= upperBound) {
+            throw new IndexOutOfBoundsException("Index is out of bounds");
+        }
+    }
+
+    /**
+     * Returns the number of partitions introsort allows before heapsorting a
+     * range, which is twice the base-2 logarithm of its length.
+     *
+     * @param length number of elements to sort
+     * @return depth limit
+     */
+    private static int depthLimit(int length) {
+        return 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(length));
+    }
+
+    /**
+     * Copies the elements of a list into a new array. Used in sorts of
+     * lists.
+     *
+     * @param list list to copy
+     * @return array of list elements
+     * @param <T> data type
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] copyToArray(MyList<T> list) {
+        return (T[]) list.toArray();
+    }
+
+    /**
+     * Replaces the contents of a list with the elements of an array, in a
+     * single sequential pass. A MyRandomAccess list is overwritten with set;
+     * any other list is rebuilt by inserting at the front from the last
+     * element back, which takes constant time per element on a linked list.
+     * Used in sorts of lists.
+     *
+     * @param list list to write to
+     * @param array array of elements to write
+     * @param <T> data type
+     */
+    private static <T> void writeBack(MyList<T> list, T[] array) {
+        if (list instanceof MyRandomAccess && list.size() == array.length) {
+            for (int i = 0; i < array.length; i++) {
+                list.set(i, array[i]);
+            }
+            return;
+        }
+        list.clear();
+        for (int i = array.length - 1; i >= 0; i--) {
+            list.add(0, array[i]);
+        }
+    }
+
+    /**
+     * Returns the index of the first element in a sorted range which is not
+     * less than a key.
+     *
+     * @param array array to search in
+     * @param start index of first element of range
+     * @param end index after last element of range
+     * @param key key to compare to
+     * @param comparator comparator which orders the elements
+     * @return insertion point of key before any equal elements
+     * @param <T> data type
+     */
+    private static <T> int lowerBound(T[] array, int start, int end, T key,
+        Comparator<? super T> comparator) {
+        while (start < end) {
+            int mid = (start + end) >>> 1;
+            if (comparator.compare(array[mid], key) < 0) {
+                start = mid + 1;
+            } else {
+                end = mid;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Returns the index of the first element in a sorted range which is
+     * greater than a key.
+     *
+     * @param array array to search in
+     * @param start index of first element of range
+     * @param end index after last element of range
+     * @param key key to compare to
+     * @param comparator comparator which orders the elements
+     * @return insertion point of key after any equal elements
+     * @param <T> data type
+     */
+    private static <T> int upperBound(T[] array, int start, int end, T key,
+        Comparator<? super T> comparator) {
+        while (start < end) {
+            int mid = (start + end) >>> 1;
+            if (comparator.compare(array[mid], key) <= 0) {
+                start = mid + 1;
+            } else {
+                end = mid;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Fork/join task which merge sorts a range of an array.
+     *
+     * @param <T> data type
+     */
+    private static final class MergesortTask<T>
+        extends RecursiveAction {
+        /**
+         * Array to sort.
+         */
+        private final T[] array;
+
+        /**
+         * Scratch array shared by all tasks of one sort.
+         */
+        private final T[] temp;
+
+        /**
+         * Index of first element of range.
+         */
+        private final int left;
+
+        /**
+         * Index of last element of range.
+         */
+        private final int right;
+
+        /**
+         * Comparator which orders the elements.
+         */
+        private final Comparator<? super T> comparator;
+
+        /**
+         * Serialization version of this task.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs a task which sorts a range of an array.
+         *
+         * @param array array to sort
+         * @param temp scratch array
+         * @param left index of first element of range
+         * @param right index of last element of range
+         * @param comparator comparator which orders the elements
+         */
+        private MergesortTask(T[] array, T[] temp, int left, int right,
+            Comparator<? super T> comparator) {
+            this.array = array;
+            this.temp = temp;
+            this.left = left;
+            this.right = right;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (right - left < PARALLEL_CUTOFF) {
+                timsort(array, temp, left, right + 1, comparator);
+                return;
+            }
+            int mid = (left + right) >>> 1;
+            invokeAll(new MergesortTask<>(array, temp, left, mid, comparator),
+                new MergesortTask<>(array, temp, mid + 1, right, comparator));
+            new MergeTask<>(array, temp, left, mid + 1, mid + 1, right + 1,
+                left, comparator).invoke();
+            System.arraycopy(temp, left, array, left, right - left + 1);
+        }
+    }
+
+    /**
+     * Fork/join task which merges two adjacent sorted ranges of an array into
+     * a scratch array. Large merges are split by taking the middle element of
+     * the longer range and binary searching for its position in the shorter
+     * one, so both halves can be merged in parallel.
+     *
+     * @param <T> data type
+     */
+    private static final class MergeTask<T>
+        extends RecursiveAction {
+        /**
+         * Array holding the ranges to merge.
+         */
+        private final T[] array;
+
+        /**
+         * Scratch array receiving the merged elements.
+         */
+        private final T[] temp;
+
+        /**
+         * Index of first element of left range.
+         */
+        private final int leftStart;
+
+        /**
+         * Index after last element of left range.
+         */
+        private final int leftEnd;
+
+        /**
+         * Index of first element of right range.
+         */
+        private final int rightStart;
+
+        /**
+         * Index after last element of right range.
+         */
+        private final int rightEnd;
+
+        /**
+         * Index in temp to store the first merged element at.
+         */
+        private final int destination;
+
+        /**
+         * Comparator which orders the elements.
+         */
+        private final Comparator<? super T> comparator;
+
+        /**
+         * Serialization version of this task.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs a task which merges two sorted ranges.
+         *
+         * @param array array holding the ranges
+         * @param temp scratch array
+         * @param leftStart index of first element of left range
+         * @param leftEnd index after last element of left range
+         * @param rightStart index of first element of right range
+         * @param rightEnd index after last element of right range
+         * @param destination index in temp to store merged elements from
+         * @param comparator comparator which orders the elements
+         */
+        private MergeTask(T[] array, T[] temp, int leftStart, int leftEnd,
+            int rightStart, int rightEnd, int destination,
+            Comparator<? super T> comparator) {
+            this.array = array;
+            this.temp = temp;
+            this.leftStart = leftStart;
+            this.leftEnd = leftEnd;
+            this.rightStart = rightStart;
+            this.rightEnd = rightEnd;
+            this.destination = destination;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            int leftLength = leftEnd - leftStart;
+            int rightLength = rightEnd - rightStart;
+            if (leftLength + rightLength < PARALLEL_CUTOFF) {
+                merge();
+                return;
+            }
+            int leftMid;
+            int rightMid;
+            // Equal elements from the left range stay ahead of those from the
+            // right range, which keeps the sort stable
+            if (leftLength >= rightLength) {
+                leftMid = (leftStart + leftEnd) >>> 1;
+                rightMid = lowerBound(array, rightStart, rightEnd,
+                    array[leftMid], comparator);
+            } else {
+                rightMid = (rightStart + rightEnd) >>> 1;
+                leftMid = upperBound(array, leftStart, leftEnd,
+                    array[rightMid], comparator);
+            }
+            int splitDestination = destination + leftMid - leftStart
+                + rightMid - rightStart;
+            invokeAll(new MergeTask<>(array, temp, leftStart, leftMid,
+                    rightStart, rightMid, destination, comparator),
+                new MergeTask<>(array, temp, leftMid, leftEnd, rightMid,
+                    rightEnd, splitDestination, comparator));
+        }
+
+        /**
+         * Merges both ranges sequentially.
+         */
+        private void merge() {
+            int leftPointer = leftStart;
+            int rightPointer = rightStart;
+            int counter = destination;
+            while (leftPointer < leftEnd && rightPointer < rightEnd) {
+                if (comparator.compare(array[leftPointer],
+                    array[rightPointer]) <= 0) {
+                    temp[counter++] = array[leftPointer++];
+                } else {
+                    temp[counter++] = array[rightPointer++];
+                }
+            }
+            System.arraycopy(array, leftPointer, temp, counter,
+                leftEnd - leftPointer);
+            counter += leftEnd - leftPointer;
+            System.arraycopy(array, rightPointer, temp, counter,
+                rightEnd - rightPointer);
+        }
+    }
+
+    /**
+     * Stack of pending runs for timsort, which merges adjacent runs with
+     * galloping merges. Whenever a merge finds one run winning many times in
+     * a row, it switches to galloping, copying whole blocks of that run at
+     * once; the threshold for galloping adapts to how often it pays off.
+     *
+     * @param <T> data type
+     */
+    private static final class RunMerger<T> {
+        /**
+         * Array being sorted.
+         */
+        private final T[] array;
+
+        /**
+         * Scratch array holding the shorter run of each merge, at the same
+         * indices the run occupies in array.
+         */
+        private final T[] temp;
+
+        /**
+         * Comparator which orders the elements.
+         */
+        private final Comparator<? super T> comparator;
+
+        /**
+         * Index of first element of each pending run.
+         */
+        private final int[] runBase = new int[MAX_RUNS];
+
+        /**
+         * Length of each pending run.
+         */
+        private final int[] runLength = new int[MAX_RUNS];
+
+        /**
+         * Number of pending runs.
+         */
+        private int runCount = 0;
+
+        /**
+         * Number of consecutive wins after which a merge starts galloping.
+         */
+        private int minGallop = MIN_GALLOP;
+
+        /**
+         * Constructs an empty run stack.
+         *
+         * @param array array being sorted
+         * @param temp scratch array
+         * @param comparator comparator which orders the elements
+         */
+        private RunMerger(T[] array, T[] temp,
+            Comparator<? super T> comparator) {
+            this.array = array;
+            this.temp = temp;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Pushes a run onto the stack.
+         *
+         * @param base index of first element of run
+         * @param length number of elements in run
+         */
+        private void pushRun(int base, int length) {
+            runBase[runCount] = base;
+            runLength[runCount] = length;
+            runCount++;
+        }
+
+        /**
+         * Merges runs until the lengths of the top runs on the stack satisfy
+         * runLength[i - 2] &gt; runLength[i - 1] + runLength[i] and
+         * runLength[i - 1] &gt; runLength[i], which bounds the stack depth
+         * logarithmically and keeps merges balanced.
+         */
+        private void mergeCollapse() {
+            while (runCount > 1) {
+                int n = runCount - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                    || n > 1
+                    && runLength[n - 2] <= runLength[n - 1] + runLength[n]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges all runs on the stack into one.
+         */
+        private void mergeForceCollapse() {
+            while (runCount > 1) {
+                int n = runCount - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the runs at stack indices i and i + 1. Elements of the first
+         * run which are already in place, and elements of the second run
+         * which are already in place, are skipped before merging.
+         *
+         * @param i stack index of first run
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+            runLength[i] = length1 + length2;
+            if (i == runCount - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            runCount--;
+
+            int skipped = gallopRight(array[base2], array, base1, length1, 0,
+                comparator);
+            base1 += skipped;
+            length1 -= skipped;
+            if (length1 == 0) {
+                return;
+            }
+            length2 = gallopLeft(array[base1 + length1 - 1], array, base2,
+                length2, length2 - 1, comparator);
+            if (length2 == 0) {
+                return;
+            }
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs from left to right, copying the first,
+         * shorter run to temp. The first element of the second run must be
+         * less than the first element of the first run, and the last element
+         * of the first run must be greater than every element of the second.
+         *
+         * @param base1 index of first element of first run
+         * @param length1 number of elements in first run
+         * @param base2 index of first element of second run
+         * @param length2 number of elements in second run
+         * @throws IllegalArgumentException if compareTo is inconsistent
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2)
+            throws IllegalArgumentException {
+            System.arraycopy(array, base1, temp, base1, length1);
+            int cursor1 = base1;
+            int cursor2 = base2;
+            int destination = base1;
+            array[destination++] = array[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(temp, cursor1, array, destination, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(array, cursor2, array, destination, length2);
+                array[destination + length2] = temp[cursor1];
+                return;
+            }
+            int gallop = minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+                do {
+                    if (comparator.compare(array[cursor2], temp[cursor1]) < 0) {
+                        array[destination++] = array[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        array[destination++] = temp[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < gallop);
+
+                do {
+                    count1 = gallopRight(array[cursor2], temp, cursor1,
+                        length1, 0, comparator);
+                    if (count1 != 0) {
+                        System.arraycopy(temp, cursor1, array, destination,
+                            count1);
+                        destination += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    array[destination++] = array[cursor2++];
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+                    count2 = gallopLeft(temp[cursor1], array, cursor2,
+                        length2, 0, comparator);
+                    if (count2 != 0) {
+                        System.arraycopy(array, cursor2, array, destination,
+                            count2);
+                        destination += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    array[destination++] = temp[cursor1++];
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+                // Galloping stopped paying off, so make it harder to re-enter
+                gallop = Math.max(gallop, 0) + 2;
+            }
+            minGallop = Math.max(gallop, 1);
+
+            if (length1 == 1) {
+                System.arraycopy(array, cursor2, array, destination, length2);
+                array[destination + length2] = temp[cursor1];
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException(
+                    "Comparison method violates its general contract");
+            } else {
+                System.arraycopy(temp, cursor1, array, destination, length1);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs from right to left, copying the second,
+         * shorter run to temp. The first element of the second run must be
+         * less than the first element of the first run, and the last element
+         * of the first run must be greater than every element of the second.
+         *
+         * @param base1 index of first element of first run
+         * @param length1 number of elements in first run
+         * @param base2 index of first element of second run
+         * @param length2 number of elements in second run
+         * @throws IllegalArgumentException if compareTo is inconsistent
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2)
+            throws IllegalArgumentException {
+            System.arraycopy(array, base2, temp, base2, length2);
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = base2 + length2 - 1;
+            int destination = base2 + length2 - 1;
+            array[destination--] = array[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(temp, base2, array, destination - length2 + 1,
+                    length2);
+                return;
+            }
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(array, cursor1 + 1, array, destination + 1,
+                    length1);
+                array[destination] = temp[cursor2];
+                return;
+            }
+            int gallop = minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+                do {
+                    if (comparator.compare(temp[cursor2], array[cursor1]) < 0) {
+                        array[destination--] = array[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        array[destination--] = temp[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < gallop);
+
+                do {
+                    count1 = length1 - gallopRight(temp[cursor2], array, base1,
+                        length1, length1 - 1, comparator);
+                    if (count1 != 0) {
+                        destination -= count1;
+                        cursor1 -= count1;
+                        length1 -= count1;
+                        System.arraycopy(array, cursor1 + 1, array,
+                            destination + 1, count1);
+                        if (length1 == 0) {
+                            break outer;
+                        }
+                    }
+                    array[destination--] = temp[cursor2--];
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+                    count2 = length2 - gallopLeft(array[cursor1], temp, base2,
+                        length2, length2 - 1, comparator);
+                    if (count2 != 0) {
+                        destination -= count2;
+                        cursor2 -= count2;
+                        length2 -= count2;
+                        System.arraycopy(temp, cursor2 + 1, array,
+                            destination + 1, count2);
+                        if (length2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    array[destination--] = array[cursor1--];
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+                // Galloping stopped paying off, so make it harder to re-enter
+                gallop = Math.max(gallop, 0) + 2;
+            }
+            minGallop = Math.max(gallop, 1);
+
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(array, cursor1 + 1, array, destination + 1,
+                    length1);
+                array[destination] = temp[cursor2];
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException(
+                    "Comparison method violates its general contract");
+            } else {
+                System.arraycopy(temp, base2, array, destination - length2 + 1,
+                    length2);
+            }
+        }
+    }
+
+    /**
+     * Fork/join task which quicksorts a range of an array.
+     *
+     * @param <T> data type
+     */
+    private static final class QuicksortTask<T>
+        extends RecursiveAction {
+        /**
+         * Array to sort.
+         */
+        private final T[] array;
+
+        /**
+         * Index of first element of range.
+         */
+        private final int left;
+
+        /**
+         * Index of last element of range.
+         */
+        private final int right;
+
+        /**
+         * Number of partitions allowed before heapsorting.
+         */
+        private final int depthLimit;
+
+        /**
+         * Comparator which orders the elements.
+         */
+        private final Comparator<? super T> comparator;
+
+        /**
+         * Serialization version of this task.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs a task which sorts a range of an array.
+         *
+         * @param array array to sort
+         * @param left index of first element of range
+         * @param right index of last element of range
+         * @param depthLimit number of partitions allowed before heapsorting
+         * @param comparator comparator which orders the elements
+         */
+        private QuicksortTask(T[] array, int left, int right,
+            int depthLimit, Comparator<? super T> comparator) {
+            this.array = array;
+            this.left = left;
+            this.right = right;
+            this.depthLimit = depthLimit;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            int[] bounds = new int[2];
+            if (right - left < PARALLEL_CUTOFF || depthLimit == 0) {
+                introsort(array, left, right, depthLimit, bounds, comparator);
+                return;
+            }
+            partition(array, left, right,
+                choosePivot(array, left, right, comparator), bounds,
+                comparator);
+            invokeAll(
+                new QuicksortTask<>(array, left, bounds[0] - 1,
+                    depthLimit - 1, comparator),
+                new QuicksortTask<>(array, bounds[1] + 1, right,
+                    depthLimit - 1, comparator));
         }
     }
 }
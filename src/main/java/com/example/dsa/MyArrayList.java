@@ -6,7 +6,7 @@ package com.example.dsa;
  * @param <T> data type
  */
 @SuppressWarnings("unchecked")
-public class MyArrayList<T> implements MyList<T> {
+public class MyArrayList<T> implements MyList<T>, MyRandomAccess {
     /**
      * Internal array used by this array list.
      */
@@ -195,6 +195,17 @@ public class MyArrayList<T> implements MyList<T> {
         return builder.toString();
     }
 
+    /**
+     * Returns the internal array of this array list, whose first size()
+     * elements are the elements of this list. Used by Algorithms to sort this
+     * list in place.
+     *
+     * @return internal array
+     */
+    Object[] internalArray() {
+        return array;
+    }
+
     /**
      * Doubles or halves the size of the internal array depending on size. Used
      * in add and remove methods.
@@ -208,7 +219,7 @@ public class MyArrayList<T> implements MyList<T> {
             array = newArray;
         } else if (array.length > minArrLenThreshold
             && size * 2 < array.length) {
-            T[] newArray = (T[]) new Object[size / 2];
+            T[] newArray = (T[]) new Object[array.length / 2];
             System.arraycopy(array, 0, newArray, 0, size);
             array = newArray;
         }
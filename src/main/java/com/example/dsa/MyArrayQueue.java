@@ -1,5 +1,7 @@
 package com.example.dsa;
 
+import java.util.Arrays;
+
 /**
  * An array queue data structure (FIFO).
  *
@@ -96,6 +98,28 @@ public class MyArrayQueue<T> implements MyQueue<T> {
         }
     }
 
+    /**
+     * Inserts all non-null elements of a list at the back of this queue, in
+     * list order, growing the internal array at most once.
+     *
+     * @param list list of elements to add
+     * @return number of elements added
+     */
+    public int offerAll(MyList<? extends T> list) {
+        return offerBatch(list.toArray());
+    }
+
+    /**
+     * Inserts all non-null elements of an array at the back of this queue, in
+     * array order, growing the internal array at most once.
+     *
+     * @param elements array of elements to add
+     * @return number of elements added
+     */
+    public int offerAll(T[] elements) {
+        return offerBatch(elements);
+    }
+
     @Override
     public T peek() {
         if (isEmpty()) {
@@ -116,6 +140,41 @@ public class MyArrayQueue<T> implements MyQueue<T> {
         return element;
     }
 
+    /**
+     * Retrieves and removes up to max elements from the front of this queue,
+     * storing them at the start of an array.
+     *
+     * @param max maximum number of elements to remove
+     * @param out array to store removed elements in
+     * @return number of elements removed, which is the least of max, size()
+     * and out.length
+     * @throws IllegalArgumentException if max is negative
+     */
+    public int pollBatch(int max, T[] out) throws IllegalArgumentException {
+        if (max < 0) {
+            throw new IllegalArgumentException("Negative max provided");
+        }
+        int count = Math.min(Math.min(max, size), out.length);
+        if (count == 0) {
+            return 0;
+        }
+        System.arraycopy(array, 0, out, 0, count);
+        size -= count;
+        System.arraycopy(array, count, array, 0, size);
+        Arrays.fill(array, size, size + count, null);
+        shrinkToFit();
+        return count;
+    }
+
+    /**
+     * Returns the length of the internal array. Used in tests.
+     *
+     * @return capacity of this queue
+     */
+    int capacity() {
+        return array.length;
+    }
+
     @Override
     public int size() {
         return size;
@@ -142,6 +201,63 @@ public class MyArrayQueue<T> implements MyQueue<T> {
         return builder.toString();
     }
 
+    /**
+     * Halves the size of the internal array as many times as single polls
+     * would have for the current size, copying it only once. Used in
+     * pollBatch method.
+     */
+    private void shrinkToFit() {
+        int capacity = array.length;
+        while (capacity > minArrLenThreshold && size * 2 < capacity) {
+            capacity /= 2;
+        }
+        if (capacity < array.length) {
+            T[] newArray = (T[]) new Object[capacity];
+            System.arraycopy(array, 0, newArray, 0, size);
+            array = newArray;
+        }
+    }
+
+    /**
+     * Grows the internal array, if needed, so that it can hold a number of
+     * elements. Used in offerAll methods.
+     *
+     * @param minCapacity number of elements the internal array must hold
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (array.length < minCapacity) {
+            T[] newArray = (T[]) new Object[Math.max(minCapacity,
+                array.length * 2)];
+            System.arraycopy(array, 0, newArray, 0, size);
+            array = newArray;
+        }
+    }
+
+    /**
+     * Appends the non-null elements of an array, with a single copy when
+     * there are no nulls. Used in offerAll methods.
+     *
+     * @param elements array of elements to add
+     * @return number of elements added
+     */
+    private int offerBatch(Object[] elements) {
+        ensureCapacity(size + elements.length);
+        int oldSize = size;
+        for (Object element : elements) {
+            if (element == null) {
+                for (Object e : elements) {
+                    if (e != null) {
+                        array[size++] = (T) e;
+                    }
+                }
+                return size - oldSize;
+            }
+        }
+        System.arraycopy(elements, 0, array, size, elements.length);
+        size += elements.length;
+        return elements.length;
+    }
+
     /**
      * Doubles or halves the size of the internal array depending on size. Used
      * in offer and poll methods.
@@ -155,7 +271,7 @@ public class MyArrayQueue<T> implements MyQueue<T> {
             array = newArray;
         } else if (array.length > minArrLenThreshold
             && size * 2 < array.length) {
-            T[] newArray = (T[]) new Object[size / 2];
+            T[] newArray = (T[]) new Object[array.length / 2];
             System.arraycopy(array, 0, newArray, 0, size);
             array = newArray;
         }
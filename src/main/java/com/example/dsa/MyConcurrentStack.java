@@ -0,0 +1,278 @@
+package com.example.dsa;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free stack data structure (LIFO), also called a Treiber stack, which
+ * is safe to use from multiple threads. When a compare-and-set on the top of
+ * the stack fails due to contention, pushes and pops meet in an elimination
+ * array instead, where a push handed directly to a pop cancels both out
+ * without touching the top of the stack.
+ *
+ * @param <T> data type
+ */
+@SuppressWarnings("unchecked")
+public class MyConcurrentStack<T> {
+    /**
+     * Topmost node of this stack.
+     */
+    private final AtomicReference<Node<T>> head = new AtomicReference<>();
+
+    /**
+     * Slots where colliding pushes offer their node to colliding pops.
+     */
+    private final AtomicReferenceArray<Object> eliminationArray;
+
+    /**
+     * Marker left in an elimination slot by a pop that took the offered node.
+     */
+    private static final Object TAKEN = new Object();
+
+    /**
+     * Number of times a push waits in an elimination slot for a pop.
+     */
+    private static final int ELIMINATION_SPINS = 64;
+
+    /**
+     * Maximum number of elimination slots.
+     */
+    private static final int MAX_ELIMINATION_SIZE = 32;
+
+    /**
+     * Default constructor for this stack.
+     */
+    public MyConcurrentStack() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        eliminationArray = new AtomicReferenceArray<>(
+            Math.min(MAX_ELIMINATION_SIZE, (processors + 1) / 2));
+    }
+
+    /**
+     * Empties this stack of all elements.
+     */
+    public void clear() {
+        head.set(null);
+    }
+
+    /**
+     * Compares an object with this stack for equality.
+     *
+     * @param object object to compare to this stack
+     * @return true if object and this stack are equal
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (!(object instanceof MyConcurrentStack<?> obj)) {
+            return false;
+        }
+        Object[] elements = obj.toArray();
+        Object[] items = toArray();
+        if (elements.length != items.length) {
+            return false;
+        }
+        for (int i = 0; i < items.length; i++) {
+            if (!elements[i].equals(items[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the Object class-generated hash code of this stack.
+     *
+     * @return hash code of this stack
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Checks if this stack has no elements.
+     *
+     * @return true if this stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the top of this stack.
+     *
+     * @return topmost element on stack, or null if stack is empty
+     */
+    public T peek() {
+        Node<T> top = head.get();
+        return top == null ? null : top.item;
+    }
+
+    /**
+     * Retrieves and removes the element at the top of this stack.
+     *
+     * @return topmost element on stack, or null if stack is empty
+     */
+    public T pop() {
+        while (true) {
+            Node<T> top = head.get();
+            if (top == null) {
+                return null;
+            }
+            if (head.compareAndSet(top, top.next)) {
+                return top.item;
+            }
+            int slot = randomSlot();
+            Object offer = eliminationArray.get(slot);
+            if (offer instanceof Node<?>
+                && eliminationArray.compareAndSet(slot, offer, TAKEN)) {
+                return ((Node<T>) offer).item;
+            }
+        }
+    }
+
+    /**
+     * Inserts an element at the top of this stack. Null elements are not
+     * permitted.
+     *
+     * @param element element to add
+     */
+    public void push(T element) {
+        if (element == null) {
+            return;
+        }
+        Node<T> node = new Node<>(element);
+        while (true) {
+            Node<T> top = head.get();
+            node.next = top;
+            node.size = top == null ? 1 : top.size + 1;
+            if (head.compareAndSet(top, node)) {
+                return;
+            }
+            if (tryEliminate(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in this stack.
+     *
+     * @return size of stack
+     */
+    public int size() {
+        Node<T> top = head.get();
+        return top == null ? 0 : top.size;
+    }
+
+    /**
+     * Returns an array containing all the elements in this stack, from
+     * bottom to top, as of a single point in time.
+     *
+     * @return array of stack elements
+     */
+    public Object[] toArray() {
+        Node<T> top = head.get();
+        Object[] arrayCopy = new Object[top == null ? 0 : top.size];
+        int i = arrayCopy.length;
+        for (Node<T> current = top; current != null; current = current.next) {
+            arrayCopy[--i] = current.item;
+        }
+        return arrayCopy;
+    }
+
+    /**
+     * Returns a string representation of this stack, e.g.
+     * "[element1, element2, element3, ..., elementN]".
+     *
+     * @return string form of this stack
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Object[] elements = toArray();
+        int lastIndex = elements.length - 1;
+        for (int i = 0; i < elements.length; i++) {
+            builder.append(elements[i]);
+            if (i != lastIndex) {
+                builder.append(", ");
+            }
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Returns a random index of the elimination array.
+     *
+     * @return slot index
+     */
+    private int randomSlot() {
+        return ThreadLocalRandom.current().nextInt(eliminationArray.length());
+    }
+
+    /**
+     * Offers a node in a random elimination slot and briefly waits for a pop
+     * to take it. Used in push method.
+     *
+     * @param node node to offer
+     * @return true if a pop took the node, false if the push must retry
+     */
+    private boolean tryEliminate(Node<T> node) {
+        int slot = randomSlot();
+        if (!eliminationArray.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (eliminationArray.get(slot) == TAKEN) {
+                eliminationArray.set(slot, null);
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        if (eliminationArray.compareAndSet(slot, node, null)) {
+            return false;
+        }
+        // A pop took the node after the last check
+        eliminationArray.set(slot, null);
+        return true;
+    }
+
+    /**
+     * Internal node object used by this stack.
+     *
+     * @param <T> data type
+     */
+    private static class Node<T> {
+        /**
+         * Data stored in this node.
+         */
+        private final T item;
+
+        /**
+         * Node below this node.
+         */
+        private Node<T> next = null;
+
+        /**
+         * Number of nodes from this node to the bottom of the stack.
+         */
+        private int size = 0;
+
+        /**
+         * Constructs a node holding an element.
+         *
+         * @param item element to store
+         */
+        private Node(T item) {
+            this.item = item;
+        }
+    }
+}
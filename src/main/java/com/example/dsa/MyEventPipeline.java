@@ -0,0 +1,377 @@
+package com.example.dsa;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A Disruptor-style event pipeline. Events live in a ring of preallocated
+ * mutable slots; a single producer fills slots in sequence order and a chain
+ * of stages, each on its own thread, processes them in turn. Each stage only
+ * sees a slot once the previous stage has finished with it, and the producer
+ * only reuses a slot once the last stage has finished with it, so handing an
+ * event from one stage to the next allocates nothing.
+ *
+ * @param <E> event type
+ */
+@SuppressWarnings("unchecked")
+public class MyEventPipeline<E> {
+    /**
+     * Preallocated event slots. Length is always a power of two.
+     */
+    private final E[] slots;
+
+    /**
+     * Mask used to map a sequence number to a slot index.
+     */
+    private final int mask;
+
+    /**
+     * Strategy used by waiting stages and by a producer waiting for a free
+     * slot.
+     */
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * Highest sequence number published by the producer.
+     */
+    private final AtomicLong cursor = new AtomicLong(-1);
+
+    /**
+     * Next sequence number to be claimed by the producer.
+     */
+    private long nextSequence;
+
+    /**
+     * Stages of this pipeline, in processing order.
+     */
+    private final MyArrayList<Stage> stages = new MyArrayList<>();
+
+    /**
+     * Whether the stage threads have been started.
+     */
+    private boolean isStarted;
+
+    /**
+     * Whether the stage threads should stop once they run out of events.
+     */
+    private volatile boolean isHalted;
+
+    /**
+     * First exception or error thrown by a handler.
+     */
+    private volatile Throwable failure;
+
+    /**
+     * Constructs a pipeline with a specified ring size and wait strategy.
+     *
+     * @param bufferSize number of event slots, rounded up to the next power of
+     * two
+     * @param eventFactory factory used to preallocate every event slot
+     * @param waitStrategy strategy used while waiting for events or slots
+     * @throws IllegalArgumentException if bufferSize is not positive
+     */
+    public MyEventPipeline(int bufferSize, Supplier<? extends E> eventFactory,
+        WaitStrategy waitStrategy) throws IllegalArgumentException {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Non-positive size provided");
+        }
+        int capacity = Integer.highestOneBit(bufferSize);
+        if (capacity < bufferSize) {
+            capacity <<= 1;
+        }
+        slots = (E[]) new Object[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = eventFactory.get();
+        }
+        mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Appends a stage which processes each event after all previously added
+     * stages.
+     *
+     * @param handler handler run by the new stage
+     * @throws IllegalStateException if this pipeline has already been started
+     */
+    public void addStage(EventHandler<? super E> handler)
+        throws IllegalStateException {
+        if (isStarted) {
+            throw new IllegalStateException("Pipeline already started");
+        }
+        Stage previous = stages.isEmpty() ? null
+            : stages.get(stages.size() - 1);
+        stages.add(new Stage(handler, previous, stages.size()));
+    }
+
+    /**
+     * Retrieves the event slot for a claimed sequence number.
+     *
+     * @param sequence sequence number returned by next
+     * @return event slot to fill in
+     */
+    public E get(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    /**
+     * Stops the stage threads once every published event has passed through
+     * all stages.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while
+     * waiting for the stages to stop
+     * @throws RuntimeException the first exception thrown by a handler, if any
+     * @throws Error the first error thrown by a handler, if any
+     */
+    public void halt() throws InterruptedException {
+        if (!stages.isEmpty()) {
+            Stage last = stages.get(stages.size() - 1);
+            int attempt = 0;
+            while (last.sequence.get() < cursor.get()) {
+                waitStrategy.idle(attempt++);
+            }
+        }
+        isHalted = true;
+        for (int i = 0; i < stages.size(); i++) {
+            LockSupport.unpark(stages.get(i).thread);
+            stages.get(i).thread.join();
+        }
+        Throwable exception = failure;
+        if (exception instanceof Error) {
+            throw (Error) exception;
+        } else if (exception != null) {
+            throw (RuntimeException) exception;
+        }
+    }
+
+    /**
+     * Claims the next event slot, waiting until the last stage has finished
+     * with it. The slot must be filled in via get and then released via
+     * publish. Must only be called by the single producer thread.
+     *
+     * @return sequence number of the claimed slot
+     */
+    public long next() {
+        long sequence = nextSequence++;
+        long wrapPoint = sequence - slots.length;
+        if (!stages.isEmpty()) {
+            AtomicLong gate = stages.get(stages.size() - 1).sequence;
+            int attempt = 0;
+            while (wrapPoint > gate.get()) {
+                waitStrategy.idle(attempt++);
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Makes a claimed slot visible to the first stage.
+     *
+     * @param sequence sequence number returned by next
+     */
+    public void publish(long sequence) {
+        cursor.set(sequence);
+    }
+
+    /**
+     * Claims the next event slot, fills it in with a translator and publishes
+     * it. Must only be called by the single producer thread.
+     *
+     * @param translator function writing the event data into the slot
+     */
+    public void publish(Consumer<? super E> translator) {
+        long sequence = next();
+        translator.accept(get(sequence));
+        publish(sequence);
+    }
+
+    /**
+     * Returns the number of event slots of this pipeline.
+     *
+     * @return ring size
+     */
+    public int bufferSize() {
+        return slots.length;
+    }
+
+    /**
+     * Starts one thread per stage.
+     *
+     * @throws IllegalStateException if this pipeline has already been started
+     */
+    public void start() throws IllegalStateException {
+        if (isStarted) {
+            throw new IllegalStateException("Pipeline already started");
+        }
+        isStarted = true;
+        for (int i = 0; i < stages.size(); i++) {
+            stages.get(i).thread.start();
+        }
+    }
+
+    /**
+     * Callback invoked by a stage for each event.
+     *
+     * @param <E> event type
+     */
+    @FunctionalInterface
+    public interface EventHandler<E> {
+        /**
+         * Processes an event.
+         *
+         * @param event event slot, which may be modified for later stages
+         * @param sequence sequence number of the event
+         * @param endOfBatch true if this is the last event currently
+         * available to the stage, e.g. to flush batched work
+         */
+        void onEvent(E event, long sequence, boolean endOfBatch);
+    }
+
+    /**
+     * Strategies for waiting on a sequence that has not been reached yet.
+     */
+    public enum WaitStrategy {
+        /**
+         * Spins on the CPU. Lowest latency, but burns a core per waiting
+         * thread.
+         */
+        BUSY_SPIN {
+            @Override
+            void idle(int attempt) {
+                Thread.onSpinWait();
+            }
+        },
+
+        /**
+         * Spins briefly, then yields the CPU to other threads.
+         */
+        YIELD {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        },
+
+        /**
+         * Spins and yields briefly, then parks the thread. Highest latency,
+         * but leaves idle cores free.
+         */
+        PARK {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (attempt < 2 * SPIN_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+        };
+
+        /**
+         * Number of attempts spent spinning before backing off further.
+         */
+        private static final int SPIN_TRIES = 100;
+
+        /**
+         * Nanoseconds parked per attempt by the PARK strategy.
+         */
+        private static final long PARK_NANOS = 1_000;
+
+        /**
+         * Waits once before the caller checks its condition again.
+         *
+         * @param attempt number of previous attempts by the caller
+         */
+        abstract void idle(int attempt);
+    }
+
+    /**
+     * Internal processing stage used by this pipeline.
+     */
+    private class Stage implements Runnable {
+        /**
+         * Handler run for each event.
+         */
+        private final EventHandler<? super E> handler;
+
+        /**
+         * Sequence of the stage this stage waits on, or the producer cursor
+         * for the first stage.
+         */
+        private final AtomicLong barrier;
+
+        /**
+         * Highest sequence number processed by this stage.
+         */
+        private final AtomicLong sequence = new AtomicLong(-1);
+
+        /**
+         * Thread running this stage.
+         */
+        private final Thread thread;
+
+        /**
+         * Constructs a stage which waits on a previous stage.
+         *
+         * @param handler handler run for each event
+         * @param previous previous stage, or null for the first stage
+         * @param index index of this stage
+         */
+        private Stage(EventHandler<? super E> handler, Stage previous,
+            int index) {
+            this.handler = handler;
+            this.barrier = previous == null ? cursor : previous.sequence;
+            thread = new Thread(this, "MyEventPipeline-stage-" + index);
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            while (true) {
+                long available = waitFor(next);
+                if (available < next) {
+                    return;
+                }
+                // A failing event is recorded and skipped, so the rest of the
+                // batch is still handled and the sequence keeps moving
+                for (long s = next; s <= available; s++) {
+                    try {
+                        handler.onEvent(get(s), s, s == available);
+                    } catch (Throwable e) {
+                        if (failure == null) {
+                            failure = e;
+                        }
+                    }
+                }
+                sequence.set(available);
+                next = available + 1;
+            }
+        }
+
+        /**
+         * Waits until the barrier reaches a sequence number or the pipeline
+         * is halted.
+         *
+         * @param target sequence number to wait for
+         * @return highest available sequence number, which is less than
+         * target only if the pipeline was halted
+         */
+        private long waitFor(long target) {
+            long available;
+            int attempt = 0;
+            while ((available = barrier.get()) < target && !isHalted) {
+                waitStrategy.idle(attempt++);
+            }
+            return available;
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package com.example.dsa;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * An external merge sort for files of fixed-width records which are too large
+ * to sort in memory. The input is read in large chunks, each chunk is sorted
+ * in parallel with Algorithms and spilled to a temporary run file, and the
+ * runs are then combined with a k-way merge driven by a MyPriorityQueue of
+ * run cursors. Every file is read and written through large buffers, so disk
+ * access stays sequential. If there are more runs than the fan-in, runs are
+ * merged in several passes. The sort is stable.
+ *
+ * Memory use is bounded by the chunk size plus two 1 MiB buffers while runs
+ * are created, and by one 1 MiB buffer per merged run plus one for the
+ * output while merging.
+ */
+public class MyExternalSorter {
+    /**
+     * Size in bytes of each record.
+     */
+    private final int recordSize;
+
+    /**
+     * Comparator which orders the records.
+     */
+    private final Comparator<? super byte[]> comparator;
+
+    /**
+     * Number of records sorted in memory at a time.
+     */
+    private final int chunkRecords;
+
+    /**
+     * Maximum number of runs merged at a time.
+     */
+    private final int fanIn;
+
+    /**
+     * Directory holding the temporary run files.
+     */
+    private final Path tempDirectory;
+
+    /**
+     * Number of records buffered per file.
+     */
+    private final int bufferRecords;
+
+    /**
+     * Default size in bytes of an in-memory chunk (64 MiB).
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 64 << 20;
+
+    /**
+     * Default maximum number of runs merged at a time.
+     */
+    private static final int DEFAULT_FAN_IN = 64;
+
+    /**
+     * Size in bytes of the buffer used for each file (1 MiB).
+     */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Estimated size in bytes of an array object header.
+     */
+    private static final int ARRAY_HEADER_SIZE = 16;
+
+    /**
+     * Estimated size in bytes of a reference to a record, counted twice for
+     * the chunk array and the scratch array of the merge sort.
+     */
+    private static final int REFERENCE_SIZE = 8;
+
+    /**
+     * Constructs a sorter which orders records by their bytes compared as
+     * unsigned values, using 64 MiB chunks and the default temporary
+     * directory.
+     *
+     * @param recordSize size in bytes of each record
+     * @throws IllegalArgumentException if recordSize is not positive or a
+     * single record cannot fit in the chunk size
+     */
+    public MyExternalSorter(int recordSize) throws IllegalArgumentException {
+        this(recordSize, Arrays::compareUnsigned, DEFAULT_CHUNK_SIZE,
+            DEFAULT_FAN_IN, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Constructs a sorter with a specified record order, chunk size, fan-in
+     * and temporary directory.
+     *
+     * @param recordSize size in bytes of each record
+     * @param comparator comparator which orders the records
+     * @param chunkSize memory in bytes used to sort a chunk, including the
+     * object header of each record and the references to it; the records of
+     * a chunk take up only part of it, e.g. a fifth for 8-byte records
+     * @param fanIn maximum number of runs merged at a time
+     * @param tempDirectory directory holding the temporary run files, which
+     * needs about as much free space as the input
+     * @throws IllegalArgumentException if recordSize is not positive, if
+     * chunkSize cannot hold a single record or if fanIn is less than 2
+     */
+    public MyExternalSorter(int recordSize,
+        Comparator<? super byte[]> comparator, int chunkSize, int fanIn,
+        Path tempDirectory) throws IllegalArgumentException {
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException(
+                "Non-positive record size provided");
+        }
+        // Each record is a separate array, padded to 8 bytes, referenced from
+        // the chunk array and from the scratch array of the merge sort
+        long recordFootprint = (ARRAY_HEADER_SIZE + recordSize + 7L & ~7L)
+            + 2 * REFERENCE_SIZE;
+        if (chunkSize < recordFootprint) {
+            throw new IllegalArgumentException("Chunk size is too small");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2");
+        }
+        this.recordSize = recordSize;
+        this.comparator = comparator;
+        this.chunkRecords = (int) (chunkSize / recordFootprint);
+        this.fanIn = fanIn;
+        this.tempDirectory = tempDirectory;
+        this.bufferRecords = Math.max(BUFFER_SIZE / recordSize, 1);
+    }
+
+    /**
+     * Sorts the records of a file into another file. The output file is
+     * replaced if it exists, and may be the same as the input file.
+     *
+     * @param input file of records to sort
+     * @param output file receiving the sorted records
+     * @return number of records sorted
+     * @throws IOException if a file cannot be read or written
+     * @throws IllegalArgumentException if the size of input is not a
+     * multiple of the record size
+     */
+    public long sort(Path input, Path output)
+        throws IOException, IllegalArgumentException {
+        long inputSize = Files.size(input);
+        if (inputSize % recordSize != 0) {
+            throw new IllegalArgumentException(
+                "Input size is not a multiple of record size");
+        }
+        MyList<Path> created = new MyArrayList<>();
+        try {
+            MyList<Path> runs = createRuns(input, inputSize / recordSize,
+                created);
+            while (runs.size() > fanIn) {
+                MyList<Path> merged = new MyArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    int end = Math.min(i + fanIn, runs.size());
+                    Path run = createTempFile(created);
+                    merge(runs, i, end, run);
+                    for (int j = i; j < end; j++) {
+                        Files.delete(runs.get(j));
+                    }
+                    merged.add(run);
+                }
+                runs = merged;
+            }
+            if (runs.size() == 1) {
+                Files.move(runs.get(0), output,
+                    StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                merge(runs, 0, runs.size(), output);
+            }
+        } finally {
+            for (int i = 0; i < created.size(); i++) {
+                Files.deleteIfExists(created.get(i));
+            }
+        }
+        return inputSize / recordSize;
+    }
+
+    /**
+     * Reads the input chunk by chunk, sorting each chunk in parallel and
+     * writing it to a new run file. The records of a chunk are the only
+     * per-chunk allocation; reads and writes go through one buffer each.
+     * Used in sort method.
+     *
+     * @param input file of records to sort
+     * @param total number of records in input
+     * @param created list receiving every temporary file created
+     * @return run files in input order
+     * @throws IOException if a file cannot be read or written
+     */
+    private MyList<Path> createRuns(Path input, long total,
+        MyList<Path> created) throws IOException {
+        MyList<Path> runs = new MyArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferRecords
+            * recordSize);
+        RunCursor cursor = new RunCursor(input, 0);
+        try {
+            for (long start = 0; start < total; start += chunkRecords) {
+                byte[][] records = new byte[(int) Math.min(chunkRecords,
+                    total - start)][];
+                for (int i = 0; i < records.length; i++) {
+                    cursor.advance();
+                    records[i] = cursor.record.clone();
+                }
+                Algorithms.parallelMergesort(records, comparator);
+                Path run = createTempFile(created);
+                try (FileChannel out = FileChannel.open(run,
+                    StandardOpenOption.WRITE)) {
+                    for (byte[] record : records) {
+                        if (!buffer.hasRemaining()) {
+                            buffer.flip();
+                            drain(out, buffer);
+                            buffer.clear();
+                        }
+                        buffer.put(record);
+                    }
+                    buffer.flip();
+                    drain(out, buffer);
+                    buffer.clear();
+                }
+                runs.add(run);
+            }
+        } finally {
+            cursor.channel.close();
+        }
+        return runs;
+    }
+
+    /**
+     * Creates an empty temporary file in the temporary directory.
+     *
+     * @param created list receiving the new file
+     * @return path of the new file
+     * @throws IOException if the file cannot be created
+     */
+    private Path createTempFile(MyList<Path> created) throws IOException {
+        Path path = Files.createTempFile(tempDirectory, "run", ".tmp");
+        created.add(path);
+        return path;
+    }
+
+    /**
+     * Writes all remaining bytes of a buffer to a channel.
+     *
+     * @param channel channel to write to
+     * @param buffer buffer to drain, which is empty afterwards
+     * @throws IOException if the channel cannot be written
+     */
+    private static void drain(FileChannel channel, ByteBuffer buffer)
+        throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads from a channel until a buffer is full or the channel is
+     * exhausted, then flips the buffer for reading.
+     *
+     * @param channel channel to read from
+     * @param buffer buffer to fill
+     * @return true if the buffer holds any bytes, false otherwise
+     * @throws IOException if the channel cannot be read
+     */
+    private static boolean fill(FileChannel channel, ByteBuffer buffer)
+        throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.hasRemaining();
+    }
+
+    /**
+     * Merges a range of sorted run files into one sorted file. Ties are
+     * broken by run index, so the merge is stable.
+     *
+     * @param runs run files in input order
+     * @param start index of first run to merge
+     * @param end index after last run to merge
+     * @param output file receiving the merged records
+     * @throws IOException if a file cannot be read or written
+     */
+    private void merge(MyList<Path> runs, int start, int end, Path output)
+        throws IOException {
+        MyPriorityQueue<RunCursor> queue = new MyPriorityQueue<>(end - start);
+        MyList<RunCursor> cursors = new MyArrayList<>(end - start);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferRecords
+            * recordSize);
+        try (FileChannel out = FileChannel.open(output,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = start; i < end; i++) {
+                RunCursor cursor = new RunCursor(runs.get(i), i);
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    queue.offer(cursor);
+                }
+            }
+            while (!queue.isEmpty()) {
+                RunCursor cursor = queue.poll();
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    drain(out, buffer);
+                    buffer.clear();
+                }
+                buffer.put(cursor.record);
+                if (cursor.advance()) {
+                    queue.offer(cursor);
+                }
+            }
+            buffer.flip();
+            drain(out, buffer);
+        } finally {
+            for (int i = 0; i < cursors.size(); i++) {
+                cursors.get(i).channel.close();
+            }
+        }
+    }
+
+    /**
+     * Cursor over the records of a run file, read through a large buffer.
+     */
+    private class RunCursor implements Comparable<RunCursor> {
+        /**
+         * Channel of the run file.
+         */
+        private final FileChannel channel;
+
+        /**
+         * Buffer of records read from the run file but not yet consumed.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Current record of this cursor.
+         */
+        private final byte[] record;
+
+        /**
+         * Index of the run, used to break ties between equal records.
+         */
+        private final int index;
+
+        /**
+         * Opens a cursor positioned before the first record of a run file.
+         *
+         * @param run run file to read
+         * @param index index of the run
+         * @throws IOException if the run file cannot be opened
+         */
+        private RunCursor(Path run, int index) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferRecords
+                * recordSize);
+            this.buffer.flip();
+            this.record = new byte[recordSize];
+            this.index = index;
+        }
+
+        /**
+         * Moves this cursor to the next record of its run.
+         *
+         * @return true if there is a next record, false if the run is
+         * exhausted
+         * @throws IOException if the run file cannot be read
+         */
+        private boolean advance() throws IOException {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                if (!fill(channel, buffer)) {
+                    return false;
+                }
+            }
+            buffer.get(record);
+            return true;
+        }
+
+        @Override
+        public int compareTo(RunCursor other) {
+            int comparison = comparator.compare(record, other.record);
+            return comparison != 0 ? comparison
+                : Integer.compare(index, other.index);
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.example.dsa;
+
+import java.util.Arrays;
+
+/**
+ * An indexed priority queue data structure. Each element is identified by a
+ * non-negative integer index (e.g. a vertex or timer id) and associated with a
+ * key. The heap tracks the position of every index, so the key of an element
+ * can be changed, and an element can be removed or looked up, in O(log n) or
+ * better without inserting duplicates.
+ *
+ * @param <T> key data type which much implement Comparable
+ */
+@SuppressWarnings("unchecked")
+public class MyIndexedPriorityQueue<T extends Comparable<? super T>> {
+    /**
+     * Binary heap of indices, ordered by their keys.
+     */
+    private int[] heap;
+
+    /**
+     * Position of each index in the heap, or -1 if index is absent.
+     */
+    private int[] positions;
+
+    /**
+     * Key associated with each index.
+     */
+    private T[] keys;
+
+    /**
+     * Number of indices in the heap.
+     */
+    private int size;
+
+    /**
+     * Whether this priority queue is backed by a min heap or a max heap.
+     */
+    private final boolean isMinHeap;
+
+    /**
+     * Default capacity for an indexed priority queue.
+     */
+    private static final int DEFAULT_CAPACITY = 11;
+
+    /**
+     * Constructs a min heap with a default initial capacity of 11.
+     */
+    public MyIndexedPriorityQueue() {
+        this(DEFAULT_CAPACITY, true);
+    }
+
+    /**
+     * Constructs a min heap with a specified initial capacity.
+     *
+     * @param initialCapacity initial capacity of this priority queue, which
+     * should exceed the largest index that will be used
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyIndexedPriorityQueue(int initialCapacity)
+        throws IllegalArgumentException {
+        this(initialCapacity, true);
+    }
+
+    /**
+     * Constructs either a min heap or a max heap with a specified initial
+     * capacity.
+     *
+     * @param initialCapacity initial capacity of this priority queue, which
+     * should exceed the largest index that will be used
+     * @param inputIsMinHeap if true, this priority queue will be a min heap;
+     * otherwise, it will be a max heap
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyIndexedPriorityQueue(int initialCapacity, boolean inputIsMinHeap)
+        throws IllegalArgumentException {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity provided");
+        }
+        heap = new int[initialCapacity];
+        positions = new int[initialCapacity];
+        Arrays.fill(positions, -1);
+        keys = (T[]) new Comparable[initialCapacity];
+        size = 0;
+        this.isMinHeap = inputIsMinHeap;
+    }
+
+    /**
+     * Associates a new key with an index already in this priority queue,
+     * moving it up or down as needed.
+     *
+     * @param index index whose key to change
+     * @param key new key
+     * @throws IllegalArgumentException if index is absent or key is null
+     */
+    public void changeKey(int index, T key) throws IllegalArgumentException {
+        checkContains(index, key);
+        T oldKey = keys[index];
+        keys[index] = key;
+        int comparison = key.compareTo(oldKey);
+        if (isMinHeap ? comparison < 0 : comparison > 0) {
+            siftUp(positions[index]);
+        } else {
+            siftDown(positions[index]);
+        }
+    }
+
+    /**
+     * Empties this priority queue of all elements.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+            keys[heap[i]] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Checks if an index is in this priority queue.
+     *
+     * @param index index to check for
+     * @return true if found, false otherwise
+     */
+    public boolean contains(int index) {
+        return index >= 0 && index < positions.length
+            && positions[index] != -1;
+    }
+
+    /**
+     * Lowers the key associated with an index already in this priority queue.
+     *
+     * @param index index whose key to lower
+     * @param key new key, which must be less than the current key
+     * @throws IllegalArgumentException if index is absent, key is null, or key
+     * is not less than the current key
+     */
+    public void decreaseKey(int index, T key) throws IllegalArgumentException {
+        checkContains(index, key);
+        if (key.compareTo(keys[index]) >= 0) {
+            throw new IllegalArgumentException("Key does not decrease");
+        }
+        changeKey(index, key);
+    }
+
+    /**
+     * Compares an object with this priority queue for equality.
+     *
+     * @param object object to compare to this priority queue
+     * @return true if object and this priority queue are equal
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (!(object instanceof MyIndexedPriorityQueue<?> obj)) {
+            return false;
+        }
+        if (obj.size() != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            int index = heap[i];
+            if (obj.heap[i] != index || !keys[index].equals(obj.keys[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the Object class-generated hash code of this priority queue.
+     *
+     * @return hash code of this priority queue
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Raises the key associated with an index already in this priority queue.
+     *
+     * @param index index whose key to raise
+     * @param key new key, which must be greater than the current key
+     * @throws IllegalArgumentException if index is absent, key is null, or key
+     * is not greater than the current key
+     */
+    public void increaseKey(int index, T key) throws IllegalArgumentException {
+        checkContains(index, key);
+        if (key.compareTo(keys[index]) <= 0) {
+            throw new IllegalArgumentException("Key does not increase");
+        }
+        changeKey(index, key);
+    }
+
+    /**
+     * Checks if this priority queue has no elements.
+     *
+     * @return true if this priority queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the key associated with an index.
+     *
+     * @param index index to look up
+     * @return key of index, or null if index is absent
+     */
+    public T keyOf(int index) {
+        return contains(index) ? keys[index] : null;
+    }
+
+    /**
+     * Inserts an index with an associated key.
+     *
+     * @param index index to add
+     * @param key key associated with index
+     * @throws IllegalArgumentException if index is negative or already
+     * present, or key is null
+     */
+    public void offer(int index, T key) throws IllegalArgumentException {
+        if (index < 0) {
+            throw new IllegalArgumentException("Negative index provided");
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("Null key provided");
+        }
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index already present");
+        }
+        checkCapacity(index);
+        keys[index] = key;
+        heap[size] = index;
+        positions[index] = size;
+        siftUp(size);
+        ++size;
+    }
+
+    /**
+     * Retrieves, but does not remove, the key at the front of this priority
+     * queue.
+     *
+     * @return key at the front of this priority queue, or null if empty
+     */
+    public T peek() {
+        return isEmpty() ? null : keys[heap[0]];
+    }
+
+    /**
+     * Retrieves, but does not remove, the index at the front of this priority
+     * queue.
+     *
+     * @return index at the front of this priority queue, or -1 if empty
+     */
+    public int peekIndex() {
+        return isEmpty() ? -1 : heap[0];
+    }
+
+    /**
+     * Retrieves and removes the index at the front of this priority queue.
+     *
+     * @return index at the front of this priority queue, or -1 if empty
+     */
+    public int pollIndex() {
+        if (isEmpty()) {
+            return -1;
+        }
+        int index = heap[0];
+        remove(index);
+        return index;
+    }
+
+    /**
+     * Removes an index from this priority queue.
+     *
+     * @param index index to remove
+     * @return key that was associated with index, or null if index is absent
+     */
+    public T remove(int index) {
+        if (!contains(index)) {
+            return null;
+        }
+        T key = keys[index];
+        int position = positions[index];
+        --size;
+        if (position != size) {
+            swap(position, size);
+            int moved = heap[position];
+            siftUp(position);
+            siftDown(positions[moved]);
+        }
+        positions[index] = -1;
+        keys[index] = null;
+        return key;
+    }
+
+    /**
+     * Returns the number of elements in this priority queue.
+     *
+     * @return size of priority queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a string representation of this priority queue in heap order,
+     * e.g. "[index1=key1, index2=key2, ..., indexN=keyN]".
+     *
+     * @return string form of this priority queue
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        int lastIndex = size - 1;
+        for (int i = 0; i < size; i++) {
+            builder.append(heap[i]);
+            builder.append("=");
+            builder.append(keys[heap[i]]);
+            if (i != lastIndex) {
+                builder.append(", ");
+            }
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Grows the internal arrays so that they can hold an index. Used in offer
+     * method.
+     *
+     * @param index index that must fit
+     */
+    private void checkCapacity(int index) {
+        int length = positions.length;
+        if (index >= length) {
+            int newLength = Math.max(index + 1, length * 2);
+            heap = Arrays.copyOf(heap, newLength);
+            positions = Arrays.copyOf(positions, newLength);
+            Arrays.fill(positions, length, newLength, -1);
+            keys = Arrays.copyOf(keys, newLength);
+        }
+    }
+
+    /**
+     * Helper function for validating an index and a new key.
+     *
+     * @param index index that must be present
+     * @param key key that must not be null
+     * @throws IllegalArgumentException if index is absent or key is null
+     */
+    private void checkContains(int index, T key)
+        throws IllegalArgumentException {
+        if (!contains(index)) {
+            throw new IllegalArgumentException("Index not present");
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("Null key provided");
+        }
+    }
+
+    /**
+     * Checks if the key at one heap position belongs closer to the root than
+     * the key at another.
+     *
+     * @param a first heap position
+     * @param b second heap position
+     * @return true if the key at a is strictly better than the key at b
+     */
+    private boolean isBetter(int a, int b) {
+        int comparison = keys[heap[a]].compareTo(keys[heap[b]]);
+        return isMinHeap ? comparison < 0 : comparison > 0;
+    }
+
+    /**
+     * Moves the index at a heap position down until neither child is better.
+     *
+     * @param position heap position to move
+     */
+    private void siftDown(int position) {
+        int child = position * 2 + 1;
+        while (child < size) {
+            if (child + 1 < size && isBetter(child + 1, child)) {
+                child++;
+            }
+            if (!isBetter(child, position)) {
+                break;
+            }
+            swap(position, child);
+            position = child;
+            child = position * 2 + 1;
+        }
+    }
+
+    /**
+     * Moves the index at a heap position up until its parent is not worse.
+     *
+     * @param position heap position to move
+     */
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!isBetter(position, parent)) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    /**
+     * Swaps two heap positions and updates their recorded positions.
+     *
+     * @param a first heap position
+     * @param b second heap position
+     */
+    private void swap(int a, int b) {
+        int temp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = temp;
+        positions[heap[a]] = a;
+        positions[heap[b]] = b;
+    }
+}
@@ -0,0 +1,413 @@
+package com.example.dsa;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A priority queue of primitive long keys, backed by a binary heap. Keys are
+ * stored unboxed and compared directly. Each key may carry an int payload
+ * and/or an object payload, stored in parallel arrays which are only
+ * allocated once a payload of that kind is first offered.
+ *
+ * @param <V> object payload data type
+ */
+@SuppressWarnings("unchecked")
+public class MyLongPriorityQueue<V> {
+    /**
+     * Internal key array used by this priority queue.
+     */
+    private long[] keys;
+
+    /**
+     * Int payloads parallel to keys, or null if none were offered.
+     */
+    private int[] intPayloads;
+
+    /**
+     * Object payloads parallel to keys, or null if none were offered.
+     */
+    private V[] payloads;
+
+    /**
+     * Number of keys in internal array.
+     */
+    private int size;
+
+    /**
+     * Whether this priority queue is backed by a min heap or a max heap.
+     */
+    private final boolean isMinHeap;
+
+    /**
+     * Default capacity for a priority queue.
+     */
+    private static final int DEFAULT_CAPACITY = 11;
+
+    /**
+     * Size at which the internal array should be shrunk if it is too sparse.
+     */
+    private final int minArrLenThreshold = 100;
+
+    /**
+     * Constructs a min heap with a default initial capacity of 11.
+     */
+    public MyLongPriorityQueue() {
+        this(DEFAULT_CAPACITY, true);
+    }
+
+    /**
+     * Constructs either a min heap or max heap with a default initial capacity
+     * of 11.
+     *
+     * @param inputIsMinHeap if true, this priority queue will be a min heap;
+     * otherwise, it will be a max heap
+     */
+    public MyLongPriorityQueue(boolean inputIsMinHeap) {
+        this(DEFAULT_CAPACITY, inputIsMinHeap);
+    }
+
+    /**
+     * Constructs either a min heap or a max heap with a specified initial
+     * capacity.
+     *
+     * @param initialCapacity initial capacity of this priority queue
+     * @param inputIsMinHeap if true, this priority queue will be a min heap;
+     * otherwise, it will be a max heap
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public MyLongPriorityQueue(int initialCapacity, boolean inputIsMinHeap)
+        throws IllegalArgumentException {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity provided");
+        }
+        keys = new long[initialCapacity];
+        size = 0;
+        this.isMinHeap = inputIsMinHeap;
+    }
+
+    /**
+     * Empties this priority queue of all keys and payloads.
+     */
+    public void clear() {
+        keys = new long[DEFAULT_CAPACITY];
+        intPayloads = null;
+        payloads = null;
+        size = 0;
+    }
+
+    /**
+     * Compares an object with this priority queue for equality. Only keys are
+     * compared.
+     *
+     * @param object object to compare to this priority queue
+     * @return true if object and this priority queue are equal
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (!(object instanceof MyLongPriorityQueue<?> obj)) {
+            return false;
+        }
+        return Arrays.equals(keys, 0, size, obj.keys, 0, obj.size);
+    }
+
+    /**
+     * Returns the Object class-generated hash code of this priority queue.
+     *
+     * @return hash code of this priority queue
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Checks if this priority queue has no keys.
+     *
+     * @return true if this priority queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Inserts a key without a payload.
+     *
+     * @param key key to add
+     */
+    public void offer(long key) {
+        checkCapacity();
+        siftUp(size, key, 0, null);
+        ++size;
+    }
+
+    /**
+     * Inserts a key with an int payload.
+     *
+     * @param key key to add
+     * @param payload int payload stored alongside key
+     */
+    public void offer(long key, int payload) {
+        checkCapacity();
+        if (intPayloads == null) {
+            intPayloads = new int[keys.length];
+        }
+        siftUp(size, key, payload, null);
+        ++size;
+    }
+
+    /**
+     * Inserts a key with an object payload.
+     *
+     * @param key key to add
+     * @param payload object payload stored alongside key
+     */
+    public void offer(long key, V payload) {
+        checkCapacity();
+        if (payloads == null) {
+            payloads = (V[]) new Object[keys.length];
+        }
+        siftUp(size, key, 0, payload);
+        ++size;
+    }
+
+    /**
+     * Retrieves, but does not remove, the key at the front of this priority
+     * queue.
+     *
+     * @return key at the front of this priority queue
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    public long peek() throws NoSuchElementException {
+        checkNotEmpty();
+        return keys[0];
+    }
+
+    /**
+     * Retrieves, but does not remove, the int payload of the key at the front
+     * of this priority queue.
+     *
+     * @return int payload at the front, or 0 if it was offered without one
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    public int peekIntPayload() throws NoSuchElementException {
+        checkNotEmpty();
+        return intPayloads == null ? 0 : intPayloads[0];
+    }
+
+    /**
+     * Retrieves, but does not remove, the object payload of the key at the
+     * front of this priority queue.
+     *
+     * @return object payload at the front, or null if it was offered without
+     * one
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    public V peekPayload() throws NoSuchElementException {
+        checkNotEmpty();
+        return payloads == null ? null : payloads[0];
+    }
+
+    /**
+     * Retrieves and removes the key at the front of this priority queue, along
+     * with its payloads. Payloads must be read with peekIntPayload or
+     * peekPayload beforehand.
+     *
+     * @return key at the front of this priority queue
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    public long poll() throws NoSuchElementException {
+        checkNotEmpty();
+        long head = keys[0];
+        --size;
+        long last = keys[size];
+        int lastIntPayload = intPayloads == null ? 0 : intPayloads[size];
+        V lastPayload = null;
+        if (payloads != null) {
+            lastPayload = payloads[size];
+            payloads[size] = null;
+        }
+        if (size > 0) {
+            siftDown(0, last, lastIntPayload, lastPayload);
+        }
+        checkCapacity();
+        return head;
+    }
+
+    /**
+     * Returns the number of keys in this priority queue.
+     *
+     * @return size of priority queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an array containing all the keys in this priority queue, in heap
+     * order.
+     *
+     * @return array of keys
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(keys, size);
+    }
+
+    /**
+     * Returns a string representation of the keys of this priority queue, e.g.
+     * "[key1, key2, key3, ..., keyN]".
+     *
+     * @return string form of this priority queue
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        int lastIndex = size - 1;
+        for (int i = 0; i < size; i++) {
+            builder.append(keys[i]);
+            if (i != lastIndex) {
+                builder.append(", ");
+            }
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Doubles or halves the size of the internal arrays depending on size.
+     * Used in offer and poll methods.
+     */
+    private void checkCapacity() {
+        int length = keys.length;
+        if (length == 0) {
+            resize(DEFAULT_CAPACITY);
+        } else if (size == length) {
+            resize(length * 2);
+        } else if (length > minArrLenThreshold && size * 2 < length) {
+            resize(length / 2);
+        }
+    }
+
+    /**
+     * Helper function which throws if this priority queue is empty.
+     *
+     * @throws NoSuchElementException if this priority queue is empty
+     */
+    private void checkNotEmpty() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("Priority queue is empty");
+        }
+    }
+
+    /**
+     * Checks if one key belongs closer to the root than another.
+     *
+     * @param a first key
+     * @param b second key
+     * @return true if a is strictly better than b
+     */
+    private boolean isBetter(long a, long b) {
+        return isMinHeap ? a < b : a > b;
+    }
+
+    /**
+     * Moves an entry from one slot of the internal arrays to another.
+     *
+     * @param from source index
+     * @param to destination index
+     */
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        if (intPayloads != null) {
+            intPayloads[to] = intPayloads[from];
+        }
+        if (payloads != null) {
+            payloads[to] = payloads[from];
+        }
+    }
+
+    /**
+     * Stores an entry in a slot of the internal arrays.
+     *
+     * @param index destination index
+     * @param key key to store
+     * @param intPayload int payload to store
+     * @param payload object payload to store
+     */
+    private void place(int index, long key, int intPayload, V payload) {
+        keys[index] = key;
+        if (intPayloads != null) {
+            intPayloads[index] = intPayload;
+        }
+        if (payloads != null) {
+            payloads[index] = payload;
+        }
+    }
+
+    /**
+     * Reallocates the internal arrays with a new length.
+     *
+     * @param length new length
+     */
+    private void resize(int length) {
+        keys = Arrays.copyOf(keys, length);
+        if (intPayloads != null) {
+            intPayloads = Arrays.copyOf(intPayloads, length);
+        }
+        if (payloads != null) {
+            payloads = Arrays.copyOf(payloads, length);
+        }
+    }
+
+    /**
+     * Sifts an entry down from a hole at an index until neither child is
+     * better than its key, then stores it.
+     *
+     * @param index index of the hole
+     * @param key key of entry
+     * @param intPayload int payload of entry
+     * @param payload object payload of entry
+     */
+    private void siftDown(int index, long key, int intPayload, V payload) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = index * 2 + 1;
+            int right = child + 1;
+            if (right < size && isBetter(keys[right], keys[child])) {
+                child = right;
+            }
+            if (!isBetter(keys[child], key)) {
+                break;
+            }
+            move(child, index);
+            index = child;
+        }
+        place(index, key, intPayload, payload);
+    }
+
+    /**
+     * Sifts an entry up from a hole at an index until its parent is not worse
+     * than its key, then stores it.
+     *
+     * @param index index of the hole
+     * @param key key of entry
+     * @param intPayload int payload of entry
+     * @param payload object payload of entry
+     */
+    private void siftUp(int index, long key, int intPayload, V payload) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!isBetter(key, keys[parent])) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        place(index, key, intPayload, payload);
+    }
+}
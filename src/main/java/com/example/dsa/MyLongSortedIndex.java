@@ -0,0 +1,306 @@
+package com.example.dsa;
+
+import java.util.Arrays;
+
+/**
+ * An immutable sorted index of primitive long keys, searched with lower bound
+ * and upper bound semantics. Keys are stored in Eytzinger (breadth-first)
+ * order: the root is at index 1 and the children of index k are at 2k and
+ * 2k + 1. A search walks down the array without an equality test or a
+ * data-dependent branch, and the first levels of every search touch the same
+ * few cache lines, which unlike the middle of a sorted array stay cached.
+ * Batch searches advance a group of keys one level at a time, so the memory
+ * accesses of independent searches overlap. Indices returned by searches are
+ * positions in sorted order.
+ */
+public class MyLongSortedIndex {
+    /**
+     * Keys in Eytzinger order, starting at index 1.
+     */
+    private final long[] tree;
+
+    /**
+     * Sorted order position of the key at each index of tree.
+     */
+    private final int[] ranks;
+
+    /**
+     * Number of keys in this index.
+     */
+    private final int size;
+
+    /**
+     * Number of levels of the tree.
+     */
+    private final int height;
+
+    /**
+     * Number of keys searched together by a batch search.
+     */
+    private static final int BATCH_SIZE = 16;
+
+    /**
+     * Constructs an index of a copy of an array of keys, which need not be
+     * sorted.
+     *
+     * @param keys keys to index
+     */
+    public MyLongSortedIndex(long[] keys) {
+        long[] sorted = Arrays.copyOf(keys, keys.length);
+        Algorithms.radixSort(sorted);
+        size = sorted.length;
+        height = Integer.SIZE - Integer.numberOfLeadingZeros(size);
+        tree = new long[size + 1];
+        ranks = new int[size + 1];
+        build(sorted, 0, 1);
+    }
+
+    /**
+     * Checks if this index contains a key.
+     *
+     * @param key key to find
+     * @return true if key is in this index, false otherwise
+     */
+    public boolean contains(long key) {
+        return indexOf(key) != -1;
+    }
+
+    /**
+     * Returns the sorted order position of the first occurrence of a key.
+     *
+     * @param key key to find
+     * @return index of key, or -1 if key is not in this index
+     */
+    public int indexOf(long key) {
+        int k = node(descendLower(key));
+        return k != 0 && tree[k] == key ? ranks[k] : -1;
+    }
+
+    /**
+     * Checks if this index has no keys.
+     *
+     * @return true if this index is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the sorted order position of the first key not less than a
+     * key.
+     *
+     * @param key key to search for
+     * @return index of first key greater than or equal to key, or size if
+     * there is none
+     */
+    public int lowerBound(long key) {
+        return rank(node(descendLower(key)));
+    }
+
+    /**
+     * Computes the lower bound of every key of an array. The searches are
+     * advanced together a level at a time, so their cache misses overlap.
+     *
+     * @param keys keys to search for
+     * @param results array receiving the lower bound of each key
+     * @throws IllegalArgumentException if results is shorter than keys
+     */
+    public void lowerBounds(long[] keys, int[] results)
+        throws IllegalArgumentException {
+        bounds(keys, results, false);
+    }
+
+    /**
+     * Returns the number of keys in this index.
+     *
+     * @return size of index
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the keys of this index in sorted order.
+     *
+     * @return array of sorted keys
+     */
+    public long[] toArray() {
+        long[] arrayCopy = new long[size];
+        for (int k = 1; k <= size; k++) {
+            arrayCopy[ranks[k]] = tree[k];
+        }
+        return arrayCopy;
+    }
+
+    /**
+     * Returns a string representation of the keys of this index in sorted
+     * order, e.g. "[key1, key2, key3, ..., keyN]".
+     *
+     * @return string form of this index
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Returns the sorted order position of the first key greater than a key.
+     *
+     * @param key key to search for
+     * @return index of first key greater than key, or size if there is none
+     */
+    public int upperBound(long key) {
+        return rank(node(descendUpper(key)));
+    }
+
+    /**
+     * Computes the upper bound of every key of an array. The searches are
+     * advanced together a level at a time, so their cache misses overlap.
+     *
+     * @param keys keys to search for
+     * @param results array receiving the upper bound of each key
+     * @throws IllegalArgumentException if results is shorter than keys
+     */
+    public void upperBounds(long[] keys, int[] results)
+        throws IllegalArgumentException {
+        bounds(keys, results, true);
+    }
+
+    /**
+     * Computes the lower or upper bound of every key of an array in groups
+     * of BATCH_SIZE keys. Used in lowerBounds and upperBounds methods.
+     *
+     * @param keys keys to search for
+     * @param results array receiving the bound of each key
+     * @param upper if true, upper bounds are computed; otherwise, lower
+     * bounds are computed
+     * @throws IllegalArgumentException if results is shorter than keys
+     */
+    private void bounds(long[] keys, int[] results, boolean upper)
+        throws IllegalArgumentException {
+        if (results.length < keys.length) {
+            throw new IllegalArgumentException("Results array is too short");
+        }
+        int[] positions = new int[BATCH_SIZE];
+        for (int start = 0; start < keys.length; start += BATCH_SIZE) {
+            int count = Math.min(BATCH_SIZE, keys.length - start);
+            Arrays.fill(positions, 0, count, 1);
+            // Every level but the last is full, so no bounds check is needed
+            for (int level = 1; level < height; level++) {
+                for (int j = 0; j < count; j++) {
+                    int k = positions[j];
+                    long key = keys[start + j];
+                    positions[j] = 2 * k
+                        + (upper ? goRightUpper(k, key) : goRightLower(k, key));
+                }
+            }
+            for (int j = 0; j < count; j++) {
+                int k = positions[j];
+                long key = keys[start + j];
+                if (k <= size) {
+                    k = 2 * k
+                        + (upper ? goRightUpper(k, key) : goRightLower(k, key));
+                }
+                results[start + j] = rank(node(k));
+            }
+        }
+    }
+
+    /**
+     * Lays out sorted keys in Eytzinger order by an in-order walk of the
+     * implicit tree. Used in constructor.
+     *
+     * @param sorted keys in sorted order
+     * @param i position of the next sorted key to place
+     * @param k index of the current node
+     * @return position of the next sorted key to place after this subtree
+     */
+    private int build(long[] sorted, int i, int k) {
+        if (k <= size) {
+            i = build(sorted, i, 2 * k);
+            tree[k] = sorted[i];
+            ranks[k] = i;
+            i = build(sorted, i + 1, 2 * k + 1);
+        }
+        return i;
+    }
+
+    /**
+     * Walks down the tree towards a key, going right past every key less
+     * than it.
+     *
+     * @param key key to search for
+     * @return index past the leaf where the walk ended
+     */
+    private int descendLower(long key) {
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + goRightLower(k, key);
+        }
+        return k;
+    }
+
+    /**
+     * Walks down the tree towards a key, going right past every key less
+     * than or equal to it.
+     *
+     * @param key key to search for
+     * @return index past the leaf where the walk ended
+     */
+    private int descendUpper(long key) {
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + goRightUpper(k, key);
+        }
+        return k;
+    }
+
+    /**
+     * Returns 1 if a lower bound search for a key continues right of a node,
+     * or 0 if it continues left. Written as a conditional expression so it
+     * compiles to a conditional move rather than a branch.
+     *
+     * @param k index of node
+     * @param key key to search for
+     * @return 1 if the key of node k is less than key, 0 otherwise
+     */
+    private int goRightLower(int k, long key) {
+        return tree[k] < key ? 1 : 0;
+    }
+
+    /**
+     * Returns 1 if an upper bound search for a key continues right of a node,
+     * or 0 if it continues left.
+     *
+     * @param k index of node
+     * @param key key to search for
+     * @return 1 if the key of node k is less than or equal to key, 0
+     * otherwise
+     */
+    private int goRightUpper(int k, long key) {
+        return tree[k] <= key ? 1 : 0;
+    }
+
+    /**
+     * Converts the index reached after walking off the bottom of the tree
+     * into the index of the bound. The walk went right at every node after
+     * the bound and left at the bound itself, so the bound is found by
+     * dropping the trailing 1 bits and the 0 bit before them.
+     *
+     * @param k index past a leaf
+     * @return index of the bound node, or 0 if there is none
+     */
+    private static int node(int k) {
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    /**
+     * Returns the sorted order position of a node.
+     *
+     * @param k index of node, or 0 for no node
+     * @return sorted order position of node, or size if k is 0
+     */
+    private int rank(int k) {
+        return k == 0 ? size : ranks[k];
+    }
+}
@@ -0,0 +1,555 @@
+package com.example.dsa;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * A persistent queue of byte records (FIFO) backed by memory-mapped segment
+ * files. Records are appended to the current write segment, and the read and
+ * write cursors are stored in a separate mapped cursor file after every
+ * operation, so the queue survives a restart of the process. Segments are
+ * rolled over when full and deleted once every record in them is consumed.
+ * Records are either fixed-size or prefixed with their length. The cursors
+ * are written alternately to two checksummed slots, so a torn write of one
+ * slot falls back to the cursors saved before it.
+ */
+public class MyMappedQueue implements MyQueue<byte[]>, Closeable {
+    /**
+     * Directory holding the segment and cursor files.
+     */
+    private final Path directory;
+
+    /**
+     * Size in bytes of each segment file.
+     */
+    private final int segmentSize;
+
+    /**
+     * Size in bytes of each record, or 0 for length-prefixed records.
+     */
+    private final int recordSize;
+
+    /**
+     * Mapped cursor file storing the layout and cursors of this queue.
+     */
+    private MappedByteBuffer cursor;
+
+    /**
+     * Mapped segment currently being read from.
+     */
+    private MappedByteBuffer readBuffer;
+
+    /**
+     * Mapped segment currently being written to.
+     */
+    private MappedByteBuffer writeBuffer;
+
+    /**
+     * Index of the segment currently being read from.
+     */
+    private long readSegment;
+
+    /**
+     * Byte offset of the next record in the read segment.
+     */
+    private int readOffset;
+
+    /**
+     * Index of the segment currently being written to.
+     */
+    private long writeSegment;
+
+    /**
+     * Byte offset of the next free byte in the write segment.
+     */
+    private int writeOffset;
+
+    /**
+     * Number of records in this queue.
+     */
+    private long size;
+
+    /**
+     * Version of the last saved cursors, which selects the slot they were
+     * written to.
+     */
+    private long cursorVersion;
+
+    /**
+     * Checksum used to validate cursor slots.
+     */
+    private final CRC32C checksum = new CRC32C();
+
+    /**
+     * Default size of a segment file (64 MiB).
+     */
+    private static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /**
+     * Name of the cursor file.
+     */
+    private static final String CURSOR_FILE = "cursor.dat";
+
+    /**
+     * Size in bytes of one cursor slot: version, read segment, read offset,
+     * write segment, write offset, size and checksum.
+     */
+    private static final int CURSOR_SLOT_SIZE = 7 * Long.BYTES;
+
+    /**
+     * Byte offset of the first cursor slot, after the layout header.
+     */
+    private static final int CURSOR_HEADER_SIZE = 2 * Integer.BYTES;
+
+    /**
+     * Size in bytes of the cursor file.
+     */
+    private static final int CURSOR_SIZE = CURSOR_HEADER_SIZE
+        + 2 * CURSOR_SLOT_SIZE;
+
+    /**
+     * Length prefix marking the end of the records in a segment.
+     */
+    private static final int END_OF_SEGMENT = -1;
+
+    /**
+     * Opens or creates a queue of length-prefixed records with a default
+     * segment size of 64 MiB.
+     *
+     * @param directory directory holding the queue files
+     * @throws IOException if the queue files cannot be opened
+     */
+    public MyMappedQueue(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, 0);
+    }
+
+    /**
+     * Opens or creates a queue with a specified segment size and record size.
+     *
+     * @param directory directory holding the queue files
+     * @param segmentSize size in bytes of each segment file
+     * @param recordSize size in bytes of each record, or 0 for length-prefixed
+     * records of any size up to the segment size
+     * @throws IOException if the queue files cannot be opened
+     * @throws IllegalArgumentException if segmentSize or recordSize is
+     * invalid, or if they differ from those of an existing queue
+     */
+    public MyMappedQueue(Path directory, int segmentSize, int recordSize)
+        throws IOException, IllegalArgumentException {
+        if (recordSize < 0) {
+            throw new IllegalArgumentException("Negative record size provided");
+        }
+        if (segmentSize < Math.max(recordSize, Integer.BYTES)) {
+            throw new IllegalArgumentException("Segment size is too small");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.recordSize = recordSize;
+        Files.createDirectories(directory);
+        Path cursorPath = directory.resolve(CURSOR_FILE);
+        boolean exists = Files.exists(cursorPath);
+        try (FileChannel channel = FileChannel.open(cursorPath,
+            StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+            cursor = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                CURSOR_SIZE);
+        }
+        // A zero header means the queue was created but never saved
+        if (exists && cursor.getInt(0) != 0) {
+            if (cursor.getInt(0) != segmentSize
+                || cursor.getInt(4) != recordSize) {
+                throw new IllegalArgumentException(
+                    "Layout differs from existing queue");
+            }
+        } else {
+            cursor.putInt(0, segmentSize);
+            cursor.putInt(4, recordSize);
+        }
+        if (!loadCursor()) {
+            saveCursor();
+        }
+        readBuffer = map(readSegment);
+        writeBuffer = map(writeSegment);
+    }
+
+    @Override
+    public void clear() {
+        // Start afresh in a new segment and persist that before deleting the
+        // old segments, so the cursor never refers to a missing segment
+        long firstSegment = readSegment;
+        long lastSegment = writeSegment;
+        readSegment = lastSegment + 1;
+        readOffset = 0;
+        writeSegment = readSegment;
+        writeOffset = 0;
+        size = 0;
+        readBuffer = map(readSegment);
+        writeBuffer = map(writeSegment);
+        saveCursor();
+        cursor.force();
+        for (long segment = firstSegment; segment <= lastSegment; segment++) {
+            delete(segment);
+        }
+    }
+
+    /**
+     * Flushes all records and cursors to storage and releases the mapped
+     * segments. This queue must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        sync();
+        cursor = null;
+        readBuffer = null;
+        writeBuffer = null;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (!(object instanceof MyMappedQueue obj)) {
+            return false;
+        }
+        if (obj.size() != size()) {
+            return false;
+        }
+        Object[] elements = obj.toArray();
+        Object[] items = toArray();
+        for (int i = 0; i < items.length; i++) {
+            if (!Arrays.equals((byte[]) elements[i], (byte[]) items[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends a record to this queue. Null records are not permitted.
+     *
+     * @param element record to add
+     * @throws IllegalArgumentException if the record does not match the fixed
+     * record size, or does not fit in a segment
+     */
+    @Override
+    public void offer(byte[] element) throws IllegalArgumentException {
+        if (element != null) {
+            int header = recordSize > 0 ? 0 : Integer.BYTES;
+            if (recordSize > 0 && element.length != recordSize) {
+                throw new IllegalArgumentException("Record size mismatch");
+            }
+            if (header + element.length > segmentSize) {
+                throw new IllegalArgumentException("Record exceeds segment");
+            }
+            if (writeOffset + header + element.length > segmentSize) {
+                if (recordSize == 0
+                    && writeOffset + Integer.BYTES <= segmentSize) {
+                    writeBuffer.putInt(writeOffset, END_OF_SEGMENT);
+                }
+                // Force the full segment now, as sync only forces the
+                // current one
+                writeBuffer.force();
+                ++writeSegment;
+                writeOffset = 0;
+                writeBuffer = map(writeSegment);
+            }
+            if (recordSize == 0) {
+                writeBuffer.putInt(writeOffset, element.length);
+            }
+            writeBuffer.put(writeOffset + header, element);
+            writeOffset += header + element.length;
+            ++size;
+            saveCursor();
+        }
+    }
+
+    @Override
+    public byte[] peek() {
+        return copy(peekBuffer());
+    }
+
+    /**
+     * Retrieves, but does not remove, the record at the front of this queue
+     * without copying it. The returned buffer is a read-only view of the
+     * mapped segment and stays valid until this queue is closed.
+     *
+     * @return view of the record at the front of this queue, or null if queue
+     * is empty
+     */
+    public ByteBuffer peekBuffer() {
+        if (isEmpty()) {
+            return null;
+        }
+        skipFinishedSegments();
+        int length = recordLength(readBuffer, readOffset);
+        int header = recordSize > 0 ? 0 : Integer.BYTES;
+        return readBuffer.slice(readOffset + header, length)
+            .asReadOnlyBuffer();
+    }
+
+    @Override
+    public byte[] poll() {
+        return copy(pollBuffer());
+    }
+
+    /**
+     * Retrieves and removes the record at the front of this queue without
+     * copying it. The returned buffer is a read-only view of the mapped
+     * segment and stays valid until this queue is closed.
+     *
+     * @return view of the record at the front of this queue, or null if queue
+     * is empty
+     */
+    public ByteBuffer pollBuffer() {
+        ByteBuffer record = peekBuffer();
+        if (record != null) {
+            int header = recordSize > 0 ? 0 : Integer.BYTES;
+            readOffset += header + record.remaining();
+            --size;
+            saveCursor();
+        }
+        return record;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Forces all records and cursors written so far to storage, so they
+     * survive an operating system crash as well as a process crash. Segments
+     * which filled up since the last sync were already forced when the next
+     * segment was started.
+     */
+    public void sync() {
+        writeBuffer.force();
+        cursor.force();
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] arrayCopy = new Object[size()];
+        long segment = readSegment;
+        int offset = readOffset;
+        MappedByteBuffer buffer = readBuffer;
+        int header = recordSize > 0 ? 0 : Integer.BYTES;
+        for (int i = 0; i < arrayCopy.length; i++) {
+            while (segment < writeSegment && isSegmentEnd(buffer, offset)) {
+                ++segment;
+                offset = 0;
+                buffer = segment == writeSegment ? writeBuffer : map(segment);
+            }
+            int length = recordLength(buffer, offset);
+            byte[] record = new byte[length];
+            buffer.get(offset + header, record);
+            arrayCopy[i] = record;
+            offset += header + length;
+        }
+        return arrayCopy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Object[] elements = toArray();
+        int lastIndex = elements.length - 1;
+        for (int i = 0; i < elements.length; i++) {
+            builder.append(Arrays.toString((byte[]) elements[i]));
+            if (i != lastIndex) {
+                builder.append(", ");
+            }
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Copies the remaining bytes of a buffer into a new array.
+     *
+     * @param record buffer to copy, may be null
+     * @return copied bytes, or null if record is null
+     */
+    private static byte[] copy(ByteBuffer record) {
+        if (record == null) {
+            return null;
+        }
+        byte[] bytes = new byte[record.remaining()];
+        record.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Deletes a segment file if it exists.
+     *
+     * @param segment index of segment to delete
+     */
+    private void delete(long segment) {
+        try {
+            Files.deleteIfExists(segmentPath(segment));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks if there are no more records at an offset of a segment that is
+     * no longer being written to.
+     *
+     * @param buffer mapped segment
+     * @param offset byte offset in segment
+     * @return true if offset is past the last record of the segment
+     */
+    private boolean isSegmentEnd(MappedByteBuffer buffer, int offset) {
+        if (recordSize > 0) {
+            return offset + recordSize > segmentSize;
+        }
+        return offset + Integer.BYTES > segmentSize
+            || buffer.getInt(offset) == END_OF_SEGMENT;
+    }
+
+    /**
+     * Maps a segment file into memory, creating it if necessary.
+     *
+     * @param segment index of segment to map
+     * @return mapped segment
+     */
+    private MappedByteBuffer map(long segment) {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment),
+            StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the length of the record at an offset of a segment.
+     *
+     * @param buffer mapped segment
+     * @param offset byte offset of record
+     * @return length of record in bytes, excluding its length prefix
+     */
+    private int recordLength(MappedByteBuffer buffer, int offset) {
+        return recordSize > 0 ? recordSize : buffer.getInt(offset);
+    }
+
+    /**
+     * Returns the checksum of the fields of a cursor slot.
+     *
+     * @param base byte offset of slot
+     * @return checksum of every field of the slot but the checksum itself
+     */
+    private long cursorChecksum(int base) {
+        checksum.reset();
+        checksum.update(cursor.slice(base, CURSOR_SLOT_SIZE - Long.BYTES));
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns the byte offset of the cursor slot for a version.
+     *
+     * @param version cursor version
+     * @return byte offset of slot
+     */
+    private static int cursorSlot(long version) {
+        return CURSOR_HEADER_SIZE + (int) (version & 1) * CURSOR_SLOT_SIZE;
+    }
+
+    /**
+     * Reads the cursors from the valid slot with the highest version.
+     *
+     * @return true if a valid slot was found, false otherwise
+     */
+    private boolean loadCursor() {
+        int best = -1;
+        for (int slot = 0; slot < 2; slot++) {
+            int base = CURSOR_HEADER_SIZE + slot * CURSOR_SLOT_SIZE;
+            long version = cursor.getLong(base);
+            if (cursor.getLong(base + 48) == cursorChecksum(base)
+                && (best == -1 || version > cursor.getLong(best))) {
+                best = base;
+            }
+        }
+        if (best == -1) {
+            return false;
+        }
+        cursorVersion = cursor.getLong(best);
+        readSegment = cursor.getLong(best + 8);
+        readOffset = (int) cursor.getLong(best + 16);
+        writeSegment = cursor.getLong(best + 24);
+        writeOffset = (int) cursor.getLong(best + 32);
+        size = cursor.getLong(best + 40);
+        return true;
+    }
+
+    /**
+     * Writes the current cursors to the slot not holding the last saved
+     * cursors, with the checksum written last. If the write is torn, the
+     * other slot still holds valid cursors.
+     */
+    private void saveCursor() {
+        ++cursorVersion;
+        int base = cursorSlot(cursorVersion);
+        cursor.putLong(base, cursorVersion);
+        cursor.putLong(base + 8, readSegment);
+        cursor.putLong(base + 16, readOffset);
+        cursor.putLong(base + 24, writeSegment);
+        cursor.putLong(base + 32, writeOffset);
+        cursor.putLong(base + 40, size);
+        cursor.putLong(base + 48, cursorChecksum(base));
+    }
+
+    /**
+     * Returns the path of a segment file.
+     *
+     * @param segment index of segment
+     * @return path of segment file
+     */
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d.seg", segment));
+    }
+
+    /**
+     * Moves the read cursor past fully consumed segments, deleting them. The
+     * new cursor is forced to storage before a segment is deleted, so the
+     * cursor never refers to a missing segment. Used in peekBuffer method.
+     */
+    private void skipFinishedSegments() {
+        while (readSegment < writeSegment
+            && isSegmentEnd(readBuffer, readOffset)) {
+            long finished = readSegment;
+            ++readSegment;
+            readOffset = 0;
+            readBuffer = readSegment == writeSegment ? writeBuffer
+                : map(readSegment);
+            saveCursor();
+            cursor.force();
+            delete(finished);
+        }
+    }
+}
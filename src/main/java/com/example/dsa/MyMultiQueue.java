@@ -0,0 +1,268 @@
+package com.example.dsa;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrent relaxed priority queue, also called a MultiQueue, which is safe
+ * to use from multiple threads. Elements are spread over several heaps, each
+ * guarded by its own lock. An offer inserts into a random unlocked heap, and a
+ * poll samples two random heaps and takes the better of their heads. The
+ * element returned by poll is therefore close to, but not always exactly, the
+ * best element in the queue, in exchange for throughput which scales with the
+ * number of threads.
+ *
+ * @param <T> data type which much implement Comparable
+ */
+@SuppressWarnings("unchecked")
+public class MyMultiQueue<T extends Comparable<? super T>>
+    implements MyQueue<T> {
+    /**
+     * Internal heaps used by this queue.
+     */
+    private final MyPriorityQueue<T>[] heaps;
+
+    /**
+     * Lock guarding each heap.
+     */
+    private final ReentrantLock[] locks;
+
+    /**
+     * Cached head of each heap, readable without taking its lock.
+     */
+    private final AtomicReferenceArray<T> heads;
+
+    /**
+     * Number of elements in all heaps.
+     */
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Whether this queue polls the least or the greatest elements first.
+     */
+    private final boolean isMinHeap;
+
+    /**
+     * Number of heaps per available processor by default.
+     */
+    private static final int HEAPS_PER_PROCESSOR = 2;
+
+    /**
+     * Constructs a min queue with two heaps per available processor.
+     */
+    public MyMultiQueue() {
+        this(HEAPS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors(),
+            true);
+    }
+
+    /**
+     * Constructs either a min queue or a max queue with a specified number of
+     * heaps.
+     *
+     * @param numHeaps number of internal heaps, typically a small multiple of
+     * the number of threads using this queue
+     * @param inputIsMinHeap if true, least elements are polled first;
+     * otherwise, greatest elements are polled first
+     * @throws IllegalArgumentException if numHeaps is less than 2
+     */
+    public MyMultiQueue(int numHeaps, boolean inputIsMinHeap)
+        throws IllegalArgumentException {
+        if (numHeaps < 2) {
+            throw new IllegalArgumentException("At least 2 heaps required");
+        }
+        heaps = new MyPriorityQueue[numHeaps];
+        locks = new ReentrantLock[numHeaps];
+        for (int i = 0; i < numHeaps; i++) {
+            heaps[i] = new MyPriorityQueue<>(inputIsMinHeap);
+            locks[i] = new ReentrantLock();
+        }
+        heads = new AtomicReferenceArray<>(numHeaps);
+        this.isMinHeap = inputIsMinHeap;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < heaps.length; i++) {
+            locks[i].lock();
+            try {
+                size.addAndGet(-heaps[i].size());
+                heaps[i].clear();
+                heads.set(i, null);
+            } finally {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (!(object instanceof MyMultiQueue<?> obj)) {
+            return false;
+        }
+        Object[] elements = obj.toArray();
+        Object[] items = toArray();
+        if (elements.length != items.length) {
+            return false;
+        }
+        for (int i = 0; i < items.length; i++) {
+            if (!elements[i].equals(items[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    @Override
+    public void offer(T element) {
+        if (element != null) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (true) {
+                int i = random.nextInt(heaps.length);
+                if (locks[i].tryLock()) {
+                    try {
+                        // Count the element before a poll can take it, so
+                        // size never goes negative
+                        size.incrementAndGet();
+                        heaps[i].offer(element);
+                        heads.set(i, heaps[i].peek());
+                    } finally {
+                        locks[i].unlock();
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the best head among all heaps. The
+     * result is only a snapshot when other threads modify this queue.
+     *
+     * @return best element in this queue, or null if queue is empty
+     */
+    @Override
+    public T peek() {
+        T best = null;
+        for (int i = 0; i < heaps.length; i++) {
+            T head = heads.get(i);
+            if (head != null && (best == null || isBetter(head, best))) {
+                best = head;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Retrieves and removes the better head of two randomly chosen heaps.
+     *
+     * @return an element near the front of this queue, or null if queue is
+     * empty
+     */
+    @Override
+    public T poll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (size.get() > 0) {
+            int i = random.nextInt(heaps.length);
+            int j = random.nextInt(heaps.length);
+            T headI = heads.get(i);
+            T headJ = heads.get(j);
+            if (headI == null && headJ == null) {
+                continue;
+            }
+            if (headI == null || headJ != null && isBetter(headJ, headI)) {
+                i = j;
+            }
+            if (locks[i].tryLock()) {
+                T element;
+                try {
+                    element = heaps[i].poll();
+                    heads.set(i, heaps[i].peek());
+                    if (element != null) {
+                        size.decrementAndGet();
+                    }
+                } finally {
+                    locks[i].unlock();
+                }
+                if (element != null) {
+                    return element;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns an array containing all the elements in this queue, grouped by
+     * internal heap. The result is only a snapshot when other threads modify
+     * this queue.
+     *
+     * @return array of queue elements
+     */
+    @Override
+    public Object[] toArray() {
+        MyArrayList<T> elements = new MyArrayList<>(size.get());
+        for (int i = 0; i < heaps.length; i++) {
+            locks[i].lock();
+            try {
+                Object[] heapElements = heaps[i].toArray();
+                int heapSize = heaps[i].size();
+                for (int j = 0; j < heapSize; j++) {
+                    elements.add((T) heapElements[j]);
+                }
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return elements.toArray();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Object[] elements = toArray();
+        int lastIndex = elements.length - 1;
+        for (int i = 0; i < elements.length; i++) {
+            builder.append(elements[i]);
+            if (i != lastIndex) {
+                builder.append(", ");
+            }
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Checks if an element should be polled before another.
+     *
+     * @param a first element
+     * @param b second element
+     * @return true if a is strictly better than b
+     */
+    private boolean isBetter(T a, T b) {
+        int comparison = a.compareTo(b);
+        return isMinHeap ? comparison < 0 : comparison > 0;
+    }
+}
@@ -0,0 +1,390 @@
+package com.example.dsa;
+
+/**
+ * A pairing heap data structure. Offering an element and melding two heaps
+ * both take O(1) time, polling takes amortized O(log n) time, and the
+ * priority of an element can be improved through the handle returned when it
+ * was inserted.
+ *
+ * @param <T> data type which much implement Comparable
+ */
+public class MyPairingHeap<T extends Comparable<? super T>>
+    implements MyQueue<T> {
+    /**
+     * Root node of this heap, holding the best element.
+     */
+    private Handle root;
+
+    /**
+     * Number of elements in this heap.
+     */
+    private int size;
+
+    /**
+     * Whether this pairing heap is a min heap or a max heap.
+     */
+    private final boolean isMinHeap;
+
+    /**
+     * Owner token of the handles of this heap. It is replaced when this heap
+     * is cleared, which invalidates all existing handles.
+     */
+    private Owner owner;
+
+    /**
+     * Constructs an empty min heap.
+     */
+    public MyPairingHeap() {
+        this(true);
+    }
+
+    /**
+     * Constructs either an empty min heap or an empty max heap.
+     *
+     * @param inputIsMinHeap if true, this pairing heap will be a min heap;
+     * otherwise, it will be a max heap
+     */
+    public MyPairingHeap(boolean inputIsMinHeap) {
+        this.isMinHeap = inputIsMinHeap;
+        clear();
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        size = 0;
+        owner = new Owner();
+    }
+
+    /**
+     * Replaces the element of a handle with a better one, i.e. a lesser
+     * element for a min heap or a greater element for a max heap, and moves it
+     * towards the root.
+     *
+     * @param handle handle returned by insert for an element still in this
+     * heap
+     * @param element new element, which must not be worse than the current
+     * element of handle
+     * @throws IllegalArgumentException if handle is not in this heap, e.g.
+     * because its element was polled, or if element is null or worse than
+     * the current element of handle
+     */
+    public void decreaseKey(Handle handle, T element)
+        throws IllegalArgumentException {
+        if (!owns(handle)) {
+            throw new IllegalArgumentException("Handle is not in this heap");
+        }
+        if (element == null || isBetter(handle.element, element)) {
+            throw new IllegalArgumentException("Element is not better");
+        }
+        handle.element = element;
+        if (handle == root) {
+            return;
+        }
+        if (handle.previous.child == handle) {
+            handle.previous.child = handle.next;
+        } else {
+            handle.previous.next = handle.next;
+        }
+        if (handle.next != null) {
+            handle.next.previous = handle.previous;
+        }
+        handle.previous = null;
+        handle.next = null;
+        root = link(root, handle);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (!(object instanceof MyPairingHeap<?> obj)) {
+            return false;
+        }
+        if (obj.size() != size) {
+            return false;
+        }
+        Object[] elements = obj.toArray();
+        Object[] items = toArray();
+        for (int i = 0; i < size; i++) {
+            if (!elements[i].equals(items[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Inserts an element and returns a handle to it. Null elements are not
+     * permitted.
+     *
+     * @param element element to add
+     * @return handle which can be passed to decreaseKey, or null if element
+     * is null
+     */
+    public Handle insert(T element) {
+        if (element == null) {
+            return null;
+        }
+        Handle handle = new Handle(element, owner);
+        root = root == null ? handle : link(root, handle);
+        ++size;
+        return handle;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Moves every element of another heap into this heap in O(1) time. The
+     * other heap is left empty, and handles to its elements now refer to this
+     * heap.
+     *
+     * @param other heap to meld into this heap, which must have the same
+     * ordering as this heap
+     * @throws IllegalArgumentException if other is ordered differently
+     */
+    public void meld(MyPairingHeap<T> other) throws IllegalArgumentException {
+        if (other == this || other.root == null) {
+            return;
+        }
+        if (other.isMinHeap != isMinHeap) {
+            throw new IllegalArgumentException("Heap ordering differs");
+        }
+        root = root == null ? other.root : link(root, other.root);
+        size += other.size;
+        // Handles of other now resolve to the owner of this heap
+        other.owner.parent = owner;
+        other.clear();
+    }
+
+    @Override
+    public void offer(T element) {
+        insert(element);
+    }
+
+    @Override
+    public T peek() {
+        return root == null ? null : root.element;
+    }
+
+    @Override
+    public T poll() {
+        if (root == null) {
+            return null;
+        }
+        T element = root.element;
+        Handle children = root.child;
+        root.child = null;
+        root.owner = null;
+        root = children == null ? null : combineSiblings(children);
+        --size;
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] arrayCopy = new Object[size];
+        if (root == null) {
+            return arrayCopy;
+        }
+        int i = 0;
+        MyStack<Handle> stack = new MyStack<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            for (Handle node = stack.pop(); node != null; node = node.next) {
+                arrayCopy[i++] = node.element;
+                if (node.child != null) {
+                    stack.push(node.child);
+                }
+            }
+        }
+        return arrayCopy;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Object[] elements = toArray();
+        int lastIndex = size - 1;
+        for (int i = 0; i < size; i++) {
+            builder.append(elements[i]);
+            if (i != lastIndex) {
+                builder.append(", ");
+            }
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Merges a list of sibling subtrees into one tree using the two-pass
+     * pairing strategy: link siblings in pairs from left to right, then link
+     * the pairs from right to left. Used in poll method.
+     *
+     * @param first leftmost sibling
+     * @return root of the merged tree
+     */
+    private Handle combineSiblings(Handle first) {
+        Handle pairs = null;
+        Handle current = first;
+        while (current != null) {
+            Handle a = current;
+            Handle b = a.next;
+            current = b == null ? null : b.next;
+            a.previous = null;
+            a.next = null;
+            if (b != null) {
+                b.previous = null;
+                b.next = null;
+                a = link(a, b);
+            }
+            // Pairs are chained in reverse order for the second pass
+            a.next = pairs;
+            pairs = a;
+        }
+        Handle result = pairs;
+        Handle rest = pairs.next;
+        result.next = null;
+        while (rest != null) {
+            Handle next = rest.next;
+            rest.next = null;
+            result = link(result, rest);
+            rest = next;
+        }
+        return result;
+    }
+
+    /**
+     * Checks if an element belongs closer to the root than another element.
+     *
+     * @param a first element
+     * @param b second element
+     * @return true if a is strictly better than b
+     */
+    private boolean isBetter(T a, T b) {
+        int comparison = a.compareTo(b);
+        return isMinHeap ? comparison < 0 : comparison > 0;
+    }
+
+    /**
+     * Checks if a handle refers to an element still in this heap, following
+     * the owner tokens of melded heaps and compressing the path on the way.
+     *
+     * @param handle handle to check
+     * @return true if handle belongs to this heap, false otherwise
+     */
+    private boolean owns(Handle handle) {
+        if (handle == null || handle.owner == null) {
+            return false;
+        }
+        Owner token = handle.owner;
+        while (token.parent != null) {
+            token = token.parent;
+        }
+        handle.owner = token;
+        return token == owner;
+    }
+
+    /**
+     * Links two trees by making the root with the worse element the leftmost
+     * child of the other.
+     *
+     * @param a root of first tree, with no siblings
+     * @param b root of second tree, with no siblings
+     * @return root of the linked tree
+     */
+    private Handle link(Handle a, Handle b) {
+        if (isBetter(b.element, a.element)) {
+            Handle temp = a;
+            a = b;
+            b = temp;
+        }
+        b.previous = a;
+        b.next = a.child;
+        if (a.child != null) {
+            a.child.previous = b;
+        }
+        a.child = b;
+        return a;
+    }
+
+    /**
+     * Handle to an element in this heap, which is also the node storing it.
+     */
+    public final class Handle {
+        /**
+         * Element stored in this node.
+         */
+        private T element;
+
+        /**
+         * Leftmost child of this node.
+         */
+        private Handle child = null;
+
+        /**
+         * Next sibling of this node.
+         */
+        private Handle next = null;
+
+        /**
+         * Previous sibling of this node, or its parent if it is the leftmost
+         * child.
+         */
+        private Handle previous = null;
+
+        /**
+         * Owner token of the heap this node was inserted into, or null once
+         * its element has been polled.
+         */
+        private Owner owner;
+
+        /**
+         * Constructs a node holding an element.
+         *
+         * @param element element to store
+         * @param owner owner token of the heap inserting the node
+         */
+        private Handle(T element, Owner owner) {
+            this.element = element;
+            this.owner = owner;
+        }
+
+        /**
+         * Returns the current element of this handle.
+         *
+         * @return element
+         */
+        public T element() {
+            return element;
+        }
+    }
+
+    /**
+     * Token identifying the heap a handle belongs to. When a heap is melded
+     * into another, its token is pointed at the token of the other heap.
+     */
+    private static final class Owner {
+        /**
+         * Token this token was merged into, or null if it is current.
+         */
+        private Owner parent = null;
+    }
+}
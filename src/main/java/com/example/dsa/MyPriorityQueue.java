@@ -1,7 +1,10 @@
 package com.example.dsa;
 
 /**
- * A priority queue data structure. Also called a (binary) heap.
+ * A priority queue data structure. Also called a (binary) heap. The heap may
+ * also be laid out as a d-ary heap, where the children of each node are
+ * stored contiguously; a wider heap is shallower, so polling touches fewer
+ * cache lines at the cost of more comparisons per level.
  *
  * @param <T> data type which much implement Comparable
  */
@@ -23,11 +26,27 @@ public class MyPriorityQueue<T extends Comparable<? super T>>
      */
     private final boolean isMinHeap;
 
+    /**
+     * Number of children of each node in the heap.
+     */
+    private final int arity;
+
+    /**
+     * Whether the internal array keeps its initial length instead of
+     * shrinking when sparse.
+     */
+    private final boolean isFixedCapacity;
+
     /**
      * Default capacity for a priority queue.
      */
     private static final int DEFAULT_CAPACITY = 11;
 
+    /**
+     * Default number of children of each node (a binary heap).
+     */
+    private static final int DEFAULT_ARITY = 2;
+
     /**
      * Size at which the internal array should be shrunk if it is too sparse.
      */
@@ -72,18 +91,125 @@ public class MyPriorityQueue<T extends Comparable<? super T>>
      * @throws IllegalArgumentException if initialCapacity is negative
      */
     public MyPriorityQueue(int initialCapacity, boolean inputIsMinHeap)
+        throws IllegalArgumentException {
+        this(initialCapacity, inputIsMinHeap, DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs either a min heap or a max heap with a specified initial
+     * capacity and number of children per node, e.g. 2, 4 or 8.
+     *
+     * @param initialCapacity initial capacity of this priority queue
+     * @param inputIsMinHeap if true, this priority queue will be a min heap;
+     * otherwise, it will be a max heap
+     * @param inputArity number of children of each node
+     * @throws IllegalArgumentException if initialCapacity is negative or
+     * inputArity is less than 2
+     */
+    public MyPriorityQueue(int initialCapacity, boolean inputIsMinHeap,
+        int inputArity) throws IllegalArgumentException {
+        this(initialCapacity, inputIsMinHeap, inputArity, false);
+    }
+
+    /**
+     * Constructs either a min heap or a max heap with a specified initial
+     * capacity and number of children per node, optionally keeping the
+     * internal array at its initial length, e.g. for a heap whose size is
+     * bounded by its owner.
+     *
+     * @param initialCapacity initial capacity of this priority queue
+     * @param inputIsMinHeap if true, this priority queue will be a min heap;
+     * otherwise, it will be a max heap
+     * @param inputArity number of children of each node
+     * @param inputIsFixedCapacity if true, the internal array never shrinks
+     * below initialCapacity
+     * @throws IllegalArgumentException if initialCapacity is negative or
+     * inputArity is less than 2
+     */
+    MyPriorityQueue(int initialCapacity, boolean inputIsMinHeap,
+        int inputArity, boolean inputIsFixedCapacity)
         throws IllegalArgumentException {
         if (initialCapacity < 0) {
             throw new IllegalArgumentException("Negative capacity provided");
         }
+        if (inputArity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
         array = (T[]) new Comparable[initialCapacity];
         size = 0;
         this.isMinHeap = inputIsMinHeap;
+        this.arity = inputArity;
+        this.isFixedCapacity = inputIsFixedCapacity;
+    }
+
+    /**
+     * Constructs a min heap containing the elements of a list. The heap is
+     * built bottom-up in linear time. Null elements are skipped.
+     *
+     * @param list list of elements to add
+     */
+    public MyPriorityQueue(MyList<? extends T> list) {
+        this(list, true);
+    }
+
+    /**
+     * Constructs either a min heap or a max heap containing the elements of a
+     * list. The heap is built bottom-up in linear time. Null elements are
+     * skipped.
+     *
+     * @param list list of elements to add
+     * @param inputIsMinHeap if true, this priority queue will be a min heap;
+     * otherwise, it will be a max heap
+     */
+    public MyPriorityQueue(MyList<? extends T> list, boolean inputIsMinHeap) {
+        this(list.toArray(), inputIsMinHeap);
+    }
+
+    /**
+     * Constructs a min heap containing the elements of an array. The heap is
+     * built bottom-up in linear time. Null elements are skipped.
+     *
+     * @param elements array of elements to add
+     */
+    public MyPriorityQueue(T[] elements) {
+        this(elements, true);
+    }
+
+    /**
+     * Constructs either a min heap or a max heap containing the elements of an
+     * array. The heap is built bottom-up in linear time. Null elements are
+     * skipped.
+     *
+     * @param elements array of elements to add
+     * @param inputIsMinHeap if true, this priority queue will be a min heap;
+     * otherwise, it will be a max heap
+     */
+    public MyPriorityQueue(T[] elements, boolean inputIsMinHeap) {
+        this((Object[]) elements, inputIsMinHeap);
+    }
+
+    /**
+     * Internal constructor which copies the non-null elements of an array and
+     * heapifies them.
+     *
+     * @param elements array of elements to add
+     * @param inputIsMinHeap if true, this priority queue will be a min heap;
+     * otherwise, it will be a max heap
+     */
+    private MyPriorityQueue(Object[] elements, boolean inputIsMinHeap) {
+        this(Math.max(elements.length, DEFAULT_CAPACITY), inputIsMinHeap);
+        for (Object element : elements) {
+            if (element != null) {
+                array[size++] = (T) element;
+            }
+        }
+        heapify();
     }
 
     @Override
     public void clear() {
-        array = (T[]) new Comparable[DEFAULT_CAPACITY];
+        array = (T[]) new Comparable[isFixedCapacity ? array.length
+            : DEFAULT_CAPACITY];
         size = 0;
     }
 
@@ -124,33 +250,36 @@ public class MyPriorityQueue<T extends Comparable<? super T>>
     public void offer(T element) {
         if (element != null) {
             checkCapacity();
-            int i;
-            for (i = 0; i < array.length; i++) {
-                if (array[i] == null) {
-                    array[i] = element;
-                    break;
-                }
-            }
-            int parentIndex = i;
-            while (parentIndex > 0) {
-                if (parentIndex % 2 == 0) {
-                    parentIndex--;
-                }
-                parentIndex /= 2;
-                T parent = array[parentIndex];
-                if (isMinHeap && element.compareTo(parent) < 0
-                    || !isMinHeap && element.compareTo(parent) > 0) {
-                    array[parentIndex] = element;
-                    array[i] = parent;
-                    i = parentIndex;
-                } else {
-                    break;
-                }
-            }
+            array[size] = element;
+            siftUp(size);
             ++size;
         }
     }
 
+    /**
+     * Inserts all non-null elements of a list. When the batch holds at least
+     * as many elements as this priority queue, the heap is rebuilt bottom-up
+     * in linear time instead of sifting up each element.
+     *
+     * @param list list of elements to add
+     * @return number of elements added
+     */
+    public int offerAll(MyList<? extends T> list) {
+        return offerBatch(list.toArray());
+    }
+
+    /**
+     * Inserts all non-null elements of an array. When the batch holds at
+     * least as many elements as this priority queue, the heap is rebuilt
+     * bottom-up in linear time instead of sifting up each element.
+     *
+     * @param elements array of elements to add
+     * @return number of elements added
+     */
+    public int offerAll(T[] elements) {
+        return offerBatch(elements);
+    }
+
     @Override
     public T peek() {
         if (isEmpty()) {
@@ -169,22 +298,49 @@ public class MyPriorityQueue<T extends Comparable<? super T>>
         array[size - 1] = null;
         --size;
         checkCapacity();
-        int currentIndex = 0;
-        int bestIndex = getBestIndex(1);
-        while (bestIndex > 0) {
-            T current = array[currentIndex];
-            T best = array[bestIndex];
-            if (isMinHeap && current.compareTo(best) > 0
-                || !isMinHeap && current.compareTo(best) < 0) {
-                array[currentIndex] = best;
-                array[bestIndex] = current;
-                currentIndex = bestIndex;
-                bestIndex = getBestIndex(currentIndex * 2 + 1);
-            } else {
-                break;
+        siftDown(0);
+        return head;
+    }
+
+    /**
+     * Retrieves and removes up to max elements from the front of this
+     * priority queue, in priority order, storing them at the start of an
+     * array.
+     *
+     * @param max maximum number of elements to remove
+     * @param out array to store removed elements in
+     * @return number of elements removed, which is the least of max, size()
+     * and out.length
+     * @throws IllegalArgumentException if max is negative
+     */
+    public int pollBatch(int max, T[] out) throws IllegalArgumentException {
+        if (max < 0) {
+            throw new IllegalArgumentException("Negative max provided");
+        }
+        int count = Math.min(Math.min(max, size), out.length);
+        if (count == 0) {
+            return 0;
+        }
+        for (int i = 0; i < count; i++) {
+            out[i] = array[0];
+            --size;
+            array[0] = array[size];
+            array[size] = null;
+            if (size > 0) {
+                siftDown(0);
             }
         }
-        return head;
+        shrinkToFit();
+        return count;
+    }
+
+    /**
+     * Returns the length of the internal array. Used in tests.
+     *
+     * @return capacity of this queue
+     */
+    int capacity() {
+        return array.length;
     }
 
     @Override
@@ -224,51 +380,163 @@ public class MyPriorityQueue<T extends Comparable<? super T>>
             T[] newArray = (T[]) new Comparable[size * 2];
             System.arraycopy(array, 0, newArray, 0, size);
             array = newArray;
-        } else if (array.length > minArrLenThreshold
+        } else if (!isFixedCapacity
+                   && array.length > minArrLenThreshold
                    && size * 2 < array.length) {
-            T[] newArray = (T[]) new Comparable[size / 2];
+            T[] newArray = (T[]) new Comparable[array.length / 2];
             System.arraycopy(array, 0, newArray, 0, size);
             array = newArray;
         }
     }
 
     /**
-     * Returns the index of the lesser element of the internal array if this is
-     * a min heap. Otherwise, getBestIndex returns the index of the greater
-     * element. Indices should be distinct and increasing.
+     * Halves the size of the internal array as many times as single polls
+     * would have for the current size, copying it only once. Used in
+     * pollBatch method.
+     */
+    private void shrinkToFit() {
+        int capacity = array.length;
+        while (!isFixedCapacity && capacity > minArrLenThreshold && size * 2 < capacity) {
+            capacity /= 2;
+        }
+        if (capacity < array.length) {
+            T[] newArray = (T[]) new Comparable[capacity];
+            System.arraycopy(array, 0, newArray, 0, size);
+            array = newArray;
+        }
+    }
+
+    /**
+     * Grows the internal array, if needed, so that it can hold a number of
+     * elements. Used in offerAll methods.
      *
-     * @param leftIndex left array index
-     * @return the index of the desired element, or -1 if: leftIndex is out of
-     * bounds, array[leftIndex] and array[leftIndex + 1] are both null, or
-     * array[array.length - 1] is null; in a non-null tie, left element wins
-     */
-    private int getBestIndex(int leftIndex) {
-        if (leftIndex >= array.length) {
-            return -1;
+     * @param minCapacity number of elements the internal array must hold
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (array.length < minCapacity) {
+            T[] newArray = (T[]) new Comparable[Math.max(minCapacity,
+                array.length * 2)];
+            System.arraycopy(array, 0, newArray, 0, size);
+            array = newArray;
         }
+    }
 
-        T left = array[leftIndex];
-        int rightIndex = leftIndex + 1;
-        if (rightIndex < array.length) {
-            T right = array[rightIndex];
-            if (left == null && right == null) {
-                return -1;
-            } else if (left == null) {
-                return rightIndex;
-            } else if (right == null) {
-                return leftIndex;
-            } else if (isMinHeap && left.compareTo(right) < 0
-                       || !isMinHeap && left.compareTo(right) > 0) {
-                return leftIndex;
-            } else if (left.compareTo(right) == 0) {
-                return leftIndex;
-            } else {
-                return rightIndex;
+    /**
+     * Restores the heap property over the whole internal array in linear time
+     * by sifting down every parent, starting from the last one (Floyd's
+     * method).
+     */
+    private void heapify() {
+        for (int i = (size - 2) / arity; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Appends the non-null elements of an array and restores the heap
+     * property, either by sifting up each new element or, for a large batch,
+     * by heapifying. Used in offerAll methods.
+     *
+     * @param elements array of elements to add
+     * @return number of elements added
+     */
+    private int offerBatch(Object[] elements) {
+        ensureCapacity(size + elements.length);
+        int oldSize = size;
+        for (Object element : elements) {
+            if (element != null) {
+                array[size++] = (T) element;
             }
-        } else if (left == null) {
-            return -1;
+        }
+        int added = size - oldSize;
+        if (added >= oldSize) {
+            heapify();
         } else {
-            return leftIndex;
+            for (int i = oldSize; i < size; i++) {
+                siftUp(i);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Moves the element at an index up until its parent is not worse than it.
+     * Used in offer method.
+     *
+     * @param index index of element to move
+     */
+    private void siftUp(int index) {
+        T element = array[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) / arity;
+            T parent = array[parentIndex];
+            if (isBetter(element, parent)) {
+                array[index] = parent;
+                index = parentIndex;
+            } else {
+                break;
+            }
+        }
+        array[index] = element;
+    }
+
+    /**
+     * Moves the element at an index down until neither child is better than
+     * it. Used in poll method.
+     *
+     * @param index index of element to move
+     */
+    private void siftDown(int index) {
+        T element = array[index];
+        int firstChildIndex = index * arity + 1;
+        while (firstChildIndex < size) {
+            int bestIndex = getBestIndex(firstChildIndex);
+            T best = array[bestIndex];
+            if (isBetter(best, element)) {
+                array[index] = best;
+                index = bestIndex;
+                firstChildIndex = index * arity + 1;
+            } else {
+                break;
+            }
+        }
+        array[index] = element;
+    }
+
+    /**
+     * Checks if an element belongs closer to the root than another element,
+     * i.e. if it is lesser for a min heap or greater for a max heap.
+     *
+     * @param a first element
+     * @param b second element
+     * @return true if a is strictly better than b
+     */
+    private boolean isBetter(T a, T b) {
+        int comparison = a.compareTo(b);
+        return isMinHeap ? comparison < 0 : comparison > 0;
+    }
+
+    /**
+     * Returns the index of the least of a group of siblings in the internal
+     * array if this is a min heap. Otherwise, getBestIndex returns the index
+     * of the greatest sibling. Only siblings below size are considered.
+     *
+     * @param firstChildIndex index of the first sibling, which must be less
+     * than size
+     * @return the index of the desired element; in a tie, the leftmost sibling
+     * wins
+     */
+    private int getBestIndex(int firstChildIndex) {
+        int bestIndex = firstChildIndex;
+        T best = array[firstChildIndex];
+        int end = Math.min(firstChildIndex + arity, size);
+        for (int i = firstChildIndex + 1; i < end; i++) {
+            T sibling = array[i];
+            if (isBetter(sibling, best)) {
+                best = sibling;
+                bestIndex = i;
+            }
         }
+        return bestIndex;
     }
 }
@@ -0,0 +1,273 @@
+package com.example.dsa;
+
+import java.util.Arrays;
+
+/**
+ * A monotone radix heap keyed by non-negative long keys. It is a min priority
+ * queue for workloads where keys are never less than the last key polled, such
+ * as Dijkstra's algorithm with integer edge weights. Entries are bucketed by
+ * the highest bit in which their key differs from the last polled key, so no
+ * key comparisons are needed to order them; each entry is moved to a lower
+ * bucket at most O(log C) times, where C is the range of keys.
+ *
+ * @param <T> value data type
+ */
+@SuppressWarnings("unchecked")
+public class MyRadixHeap<T> {
+    /**
+     * Buckets of entries. Bucket 0 holds keys equal to lastKey, and bucket i
+     * holds keys whose highest bit differing from lastKey is bit i - 1.
+     */
+    private final Bucket[] buckets;
+
+    /**
+     * Key of the last polled entry, which is a lower bound on every key.
+     */
+    private long lastKey;
+
+    /**
+     * Number of entries in this radix heap.
+     */
+    private int size;
+
+    /**
+     * Number of buckets, one per bit of a long plus one.
+     */
+    private static final int NUM_BUCKETS = Long.SIZE + 1;
+
+    /**
+     * Default constructor for this radix heap.
+     */
+    public MyRadixHeap() {
+        buckets = new MyRadixHeap.Bucket[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            buckets[i] = new Bucket();
+        }
+        clear();
+    }
+
+    /**
+     * Empties this radix heap of all entries and resets the lower bound on
+     * keys to 0.
+     */
+    public void clear() {
+        for (Bucket bucket : buckets) {
+            bucket.clear();
+        }
+        lastKey = 0;
+        size = 0;
+    }
+
+    /**
+     * Checks if this radix heap has no entries.
+     *
+     * @return true if this radix heap is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the key of the last polled entry. Every key offered from now on
+     * must be at least this key.
+     *
+     * @return key of last polled entry, or 0 if none was polled
+     */
+    public long lastKey() {
+        return lastKey;
+    }
+
+    /**
+     * Inserts a value with an associated key.
+     *
+     * @param key key of value, which must not be less than lastKey
+     * @param value value to add
+     * @throws IllegalArgumentException if key is less than lastKey
+     */
+    public void offer(long key, T value) throws IllegalArgumentException {
+        if (key < lastKey) {
+            throw new IllegalArgumentException("Key is less than last key");
+        }
+        buckets[bucketIndex(key)].add(key, value);
+        ++size;
+    }
+
+    /**
+     * Retrieves, but does not remove, a value with the least key.
+     *
+     * @return value with the least key, or null if radix heap is empty
+     */
+    public T peekMin() {
+        if (isEmpty()) {
+            return null;
+        }
+        Bucket bucket = buckets[0];
+        if (bucket.size > 0) {
+            return (T) bucket.values[bucket.size - 1];
+        }
+        bucket = firstNonEmptyBucket();
+        int minIndex = 0;
+        for (int i = 1; i < bucket.size; i++) {
+            if (bucket.keys[i] < bucket.keys[minIndex]) {
+                minIndex = i;
+            }
+        }
+        return (T) bucket.values[minIndex];
+    }
+
+    /**
+     * Retrieves and removes a value with the least key. Its key becomes the
+     * new lastKey.
+     *
+     * @return value with the least key, or null if radix heap is empty
+     */
+    public T pollMin() {
+        if (isEmpty()) {
+            return null;
+        }
+        Bucket first = buckets[0];
+        if (first.size == 0) {
+            redistribute(firstNonEmptyBucket());
+        }
+        --size;
+        return first.removeLast();
+    }
+
+    /**
+     * Returns the number of entries in this radix heap.
+     *
+     * @return size of radix heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a string representation of the keys of this radix heap in
+     * bucket order, e.g. "[key1, key2, key3, ..., keyN]".
+     *
+     * @return string form of this radix heap
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (Bucket bucket : buckets) {
+            for (int i = 0; i < bucket.size; i++) {
+                builder.append(bucket.keys[i]);
+                builder.append(", ");
+            }
+        }
+        if (size > 0) {
+            builder.delete(builder.length() - 2, builder.length());
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /**
+     * Returns the bucket index of a key relative to lastKey.
+     *
+     * @param key key to bucket
+     * @return bucket index
+     */
+    private int bucketIndex(long key) {
+        return Long.SIZE - Long.numberOfLeadingZeros(key ^ lastKey);
+    }
+
+    /**
+     * Returns the lowest non-empty bucket. Must only be called when this
+     * radix heap is not empty.
+     *
+     * @return lowest non-empty bucket
+     */
+    private Bucket firstNonEmptyBucket() {
+        int i = 0;
+        while (buckets[i].size == 0) {
+            i++;
+        }
+        return buckets[i];
+    }
+
+    /**
+     * Sets lastKey to the least key of a bucket and moves all of its entries
+     * to lower buckets. Used in pollMin method.
+     *
+     * @param bucket lowest non-empty bucket
+     */
+    private void redistribute(Bucket bucket) {
+        long minKey = bucket.keys[0];
+        for (int i = 1; i < bucket.size; i++) {
+            minKey = Math.min(minKey, bucket.keys[i]);
+        }
+        lastKey = minKey;
+        int count = bucket.size;
+        bucket.size = 0;
+        for (int i = 0; i < count; i++) {
+            long key = bucket.keys[i];
+            buckets[bucketIndex(key)].add(key, (T) bucket.values[i]);
+            bucket.values[i] = null;
+        }
+    }
+
+    /**
+     * Internal bucket of entries stored in parallel key and value arrays.
+     */
+    private class Bucket {
+        /**
+         * Keys of the entries in this bucket.
+         */
+        private long[] keys;
+
+        /**
+         * Values of the entries in this bucket.
+         */
+        private Object[] values;
+
+        /**
+         * Number of entries in this bucket.
+         */
+        private int size;
+
+        /**
+         * Default capacity for a bucket.
+         */
+        private static final int DEFAULT_CAPACITY = 4;
+
+        /**
+         * Appends an entry to this bucket.
+         *
+         * @param key key of entry
+         * @param value value of entry
+         */
+        private void add(long key, T value) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            keys[size] = key;
+            values[size] = value;
+            ++size;
+        }
+
+        /**
+         * Empties this bucket and releases its storage.
+         */
+        private void clear() {
+            keys = new long[DEFAULT_CAPACITY];
+            values = new Object[DEFAULT_CAPACITY];
+            size = 0;
+        }
+
+        /**
+         * Retrieves and removes the last entry of this bucket.
+         *
+         * @return value of last entry
+         */
+        private T removeLast() {
+            --size;
+            T value = (T) values[size];
+            values[size] = null;
+            return value;
+        }
+    }
+}
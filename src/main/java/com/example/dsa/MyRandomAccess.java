@@ -0,0 +1,9 @@
+package com.example.dsa;
+
+/**
+ * Marker interface for lists which support fast, generally constant time,
+ * access by index. Algorithms sorts such lists in place through get and set,
+ * and copies any other list into an array to sort it.
+ */
+public interface MyRandomAccess {
+}
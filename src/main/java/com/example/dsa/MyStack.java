@@ -1,31 +1,38 @@
 package com.example.dsa;
 
 /**
- * A stack data structure (LIFO).
+ * A stack data structure (LIFO). Elements are stored in a chain of fixed-size
+ * chunks, so growing and shrinking never copies elements.
  *
  * @param <T> data type
  */
 @SuppressWarnings("unchecked")
 public class MyStack<T> {
     /**
-     * Internal array used by this stack.
+     * Chunk holding the topmost elements of this stack.
      */
-    private T[] array;
+    private Chunk top;
 
     /**
-     * Number of elements in internal array.
+     * Number of elements in the top chunk.
      */
-    private int size;
+    private int topIndex;
+
+    /**
+     * Emptied chunk kept for reuse, so pushing and popping around a chunk
+     * boundary does not allocate.
+     */
+    private Chunk spare;
 
     /**
-     * Default capacity for a stack.
+     * Number of elements in this stack.
      */
-    private final int defaultCapacity = 10;
+    private int size;
 
     /**
-     * Size at which the internal array should be shrunk if it is too sparse.
+     * Number of elements held by each chunk.
      */
-    private final int minArrLenThreshold = 100;
+    private static final int CHUNK_SIZE = 64;
 
     /**
      * Default constructor for this stack.
@@ -38,7 +45,9 @@ public class MyStack<T> {
      * Empties this stack of all elements.
      */
     public void clear() {
-        array = (T[]) new Object[defaultCapacity];
+        top = new Chunk();
+        topIndex = 0;
+        spare = null;
         size = 0;
     }
 
@@ -62,9 +71,10 @@ public class MyStack<T> {
         if (obj.size() != size) {
             return false;
         }
-        T[] elements = (T[]) obj.toArray();
+        Object[] elements = obj.toArray();
+        Object[] items = toArray();
         for (int i = 0; i < size; i++) {
-            if (!elements[i].equals(array[i])) {
+            if (!elements[i].equals(items[i])) {
                 return false;
             }
         }
@@ -99,7 +109,7 @@ public class MyStack<T> {
         if (isEmpty()) {
             return null;
         }
-        return array[size - 1];
+        return top.items[topIndex - 1];
     }
 
     /**
@@ -111,9 +121,16 @@ public class MyStack<T> {
         if (isEmpty()) {
             return null;
         }
-        T element = array[size - 1];
+        --topIndex;
+        T element = top.items[topIndex];
+        top.items[topIndex] = null;
         --size;
-        checkCapacity();
+        if (topIndex == 0 && top.previous != null) {
+            spare = top;
+            top = top.previous;
+            spare.previous = null;
+            topIndex = CHUNK_SIZE;
+        }
         return element;
     }
 
@@ -123,8 +140,15 @@ public class MyStack<T> {
      * @param element element to add
      */
     public void push(T element) {
-        checkCapacity();
-        array[size] = element;
+        if (topIndex == CHUNK_SIZE) {
+            Chunk next = spare != null ? spare : new Chunk();
+            spare = null;
+            next.previous = top;
+            top = next;
+            topIndex = 0;
+        }
+        top.items[topIndex] = element;
+        ++topIndex;
         ++size;
     }
 
@@ -144,7 +168,13 @@ public class MyStack<T> {
      */
     public Object[] toArray() {
         Object[] arrayCopy = new Object[size];
-        System.arraycopy(array, 0, arrayCopy, 0, size);
+        int end = size;
+        int count = topIndex;
+        for (Chunk chunk = top; chunk != null; chunk = chunk.previous) {
+            end -= count;
+            System.arraycopy(chunk.items, 0, arrayCopy, end, count);
+            count = CHUNK_SIZE;
+        }
         return arrayCopy;
     }
 
@@ -157,9 +187,10 @@ public class MyStack<T> {
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder("[");
+        Object[] elements = toArray();
         int lastIndex = size - 1;
         for (int i = 0; i < size; i++) {
-            builder.append(array[i]);
+            builder.append(elements[i]);
             if (i != lastIndex) {
                 builder.append(", ");
             }
@@ -169,21 +200,17 @@ public class MyStack<T> {
     }
 
     /**
-     * Doubles or halves the size of the internal array depending on size. Used
-     * in pop and push methods.
-     */
-    private void checkCapacity() {
-        if (array.length == 0) {
-            array = (T[]) new Object[defaultCapacity];
-        } else if (size == array.length) {
-            T[] newArray = (T[]) new Object[size * 2];
-            System.arraycopy(array, 0, newArray, 0, size);
-            array = newArray;
-        } else if (array.length > minArrLenThreshold
-                   && size * 2 < array.length) {
-            T[] newArray = (T[]) new Object[size / 2];
-            System.arraycopy(array, 0, newArray, 0, size);
-            array = newArray;
-        }
+     * Internal chunk of elements used by this stack.
+     */
+    private class Chunk {
+        /**
+         * Elements stored in this chunk.
+         */
+        private final T[] items = (T[]) new Object[CHUNK_SIZE];
+
+        /**
+         * Chunk below this chunk.
+         */
+        private Chunk previous = null;
     }
 }
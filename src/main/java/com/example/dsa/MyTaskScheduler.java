@@ -0,0 +1,264 @@
+package com.example.dsa;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A fork-join style task scheduler backed by one work-stealing deque per
+ * worker thread. Tasks submitted from inside a running task are pushed onto
+ * the current worker's deque; idle workers steal from the others.
+ */
+public class MyTaskScheduler {
+    /**
+     * Worker threads owned by this scheduler.
+     */
+    private final Worker[] workers;
+
+    /**
+     * Queue of tasks submitted from threads outside this scheduler.
+     */
+    private final MyArrayQueue<Runnable> submissions = new MyArrayQueue<>();
+
+    /**
+     * Number of tasks submitted but not yet finished.
+     */
+    private final AtomicLong pending = new AtomicLong();
+
+    /**
+     * Lock used to wait for and signal quiescence.
+     */
+    private final Object quiescenceLock = new Object();
+
+    /**
+     * First exception or error thrown by a task since the last quiescence.
+     */
+    private volatile Throwable failure;
+
+    /**
+     * Whether this scheduler has been shut down.
+     */
+    private volatile boolean isShutdown;
+
+    /**
+     * Nanoseconds an idle worker parks before looking for work again.
+     */
+    private static final long IDLE_PARK_NANOS = 50_000;
+
+    /**
+     * Constructs a scheduler with one worker per available processor.
+     */
+    public MyTaskScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a scheduler with a specified number of worker threads.
+     *
+     * @param parallelism number of worker threads
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public MyTaskScheduler(int parallelism) throws IllegalArgumentException {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                "Non-positive parallelism provided");
+        }
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Blocks until every submitted task, including tasks submitted by other
+     * tasks, has finished or this scheduler has been shut down.
+     *
+     * @throws InterruptedException if the calling thread is interrupted
+     * @throws RuntimeException the first exception thrown by a task since the
+     * last call, if any
+     * @throws Error the first error thrown by a task since the last call, if
+     * any
+     */
+    public void awaitQuiescence() throws InterruptedException {
+        synchronized (quiescenceLock) {
+            while (pending.get() > 0 && !isShutdown) {
+                quiescenceLock.wait();
+            }
+        }
+        Throwable exception = failure;
+        if (exception != null) {
+            failure = null;
+            if (exception instanceof Error) {
+                throw (Error) exception;
+            }
+            throw (RuntimeException) exception;
+        }
+    }
+
+    /**
+     * Returns the number of worker threads of this scheduler.
+     *
+     * @return number of worker threads
+     */
+    public int parallelism() {
+        return workers.length;
+    }
+
+    /**
+     * Stops all worker threads once they finish their current task. Tasks
+     * still queued are discarded and no longer count as pending.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while
+     * waiting for the workers to stop
+     */
+    public void shutdown() throws InterruptedException {
+        isShutdown = true;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        for (Worker worker : workers) {
+            if (worker != Thread.currentThread()) {
+                worker.join();
+            }
+        }
+        long dropped = 0;
+        synchronized (submissions) {
+            while (submissions.poll() != null) {
+                dropped++;
+            }
+        }
+        for (Worker worker : workers) {
+            while (!worker.deque.isEmpty()) {
+                if (worker.deque.steal() != null) {
+                    dropped++;
+                }
+            }
+        }
+        pending.addAndGet(-dropped);
+        synchronized (quiescenceLock) {
+            quiescenceLock.notifyAll();
+        }
+    }
+
+    /**
+     * Submits a task for execution. Null tasks are not permitted.
+     *
+     * @param task task to run
+     * @throws IllegalStateException if this scheduler has been shut down
+     */
+    public void submit(Runnable task) throws IllegalStateException {
+        if (isShutdown) {
+            throw new IllegalStateException("Scheduler has been shut down");
+        }
+        if (task == null) {
+            return;
+        }
+        pending.incrementAndGet();
+        Thread current = Thread.currentThread();
+        if (current instanceof Worker worker && worker.owner() == this) {
+            worker.deque.push(task);
+        } else {
+            synchronized (submissions) {
+                submissions.offer(task);
+            }
+        }
+    }
+
+    /**
+     * Finds the next task for a worker: its own deque first, then the external
+     * submission queue, then a steal from another worker.
+     *
+     * @param worker worker looking for a task
+     * @return task to run, or null if none was found
+     */
+    private Runnable findTask(Worker worker) {
+        Runnable task = worker.deque.pop();
+        if (task != null) {
+            return task;
+        }
+        synchronized (submissions) {
+            task = submissions.poll();
+        }
+        if (task != null) {
+            return task;
+        }
+        int start = ThreadLocalRandom.current().nextInt(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            Worker victim = workers[(start + i) % workers.length];
+            if (victim != worker) {
+                task = victim.deque.steal();
+                if (task != null) {
+                    return task;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Runs a task and records its completion. Errors are recorded like
+     * exceptions, so they neither kill the worker nor go unreported.
+     *
+     * @param task task to run
+     */
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            if (failure == null) {
+                failure = e;
+            }
+        } finally {
+            if (pending.decrementAndGet() == 0) {
+                synchronized (quiescenceLock) {
+                    quiescenceLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Internal worker thread used by this scheduler.
+     */
+    private class Worker extends Thread {
+        /**
+         * Deque of tasks owned by this worker.
+         */
+        private final MyWorkStealingDeque<Runnable> deque =
+            new MyWorkStealingDeque<>();
+
+        /**
+         * Constructs a daemon worker thread.
+         *
+         * @param index index of this worker
+         */
+        private Worker(int index) {
+            super("MyTaskScheduler-worker-" + index);
+            setDaemon(true);
+        }
+
+        /**
+         * Returns the scheduler that owns this worker.
+         *
+         * @return owning scheduler
+         */
+        private MyTaskScheduler owner() {
+            return MyTaskScheduler.this;
+        }
+
+        @Override
+        public void run() {
+            while (!isShutdown) {
+                Runnable task = findTask(this);
+                if (task != null) {
+                    runTask(task);
+                } else {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            }
+        }
+    }
+}
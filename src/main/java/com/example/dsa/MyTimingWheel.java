@@ -0,0 +1,369 @@
+package com.example.dsa;
+
+/**
+ * A hierarchical timing wheel for scheduling large numbers of timeouts. Time
+ * is measured in ticks advanced by the caller. Each level is a ring of slots;
+ * a slot on level 0 covers one tick, and a slot on each higher level covers a
+ * whole rotation of the level below. A timeout is scheduled into the slot
+ * matching its deadline in O(1), and is moved down a level whenever its slot
+ * comes up, until it expires on level 0. Cancelling a timeout unlinks it from
+ * its slot in O(1).
+ *
+ * @param <T> task data type
+ */
+@SuppressWarnings("unchecked")
+public class MyTimingWheel<T> {
+    /**
+     * Slots of each level, indexed by level then slot.
+     */
+    private final Slot[][] wheels;
+
+    /**
+     * Number of bits of a deadline used to index the slots of one level.
+     */
+    private final int wheelBits;
+
+    /**
+     * Mask used to map a shifted deadline to a slot index.
+     */
+    private final long mask;
+
+    /**
+     * Current time in ticks.
+     */
+    private long currentTick;
+
+    /**
+     * Number of pending timeouts.
+     */
+    private int size;
+
+    /**
+     * Default number of bits per level (256 slots per level).
+     */
+    private static final int DEFAULT_WHEEL_BITS = 8;
+
+    /**
+     * Default number of levels.
+     */
+    private static final int DEFAULT_LEVELS = 4;
+
+    /**
+     * Constructs a timing wheel with 4 levels of 256 slots, which spans 2^32
+     * ticks before timeouts further out need to be re-scheduled internally.
+     */
+    public MyTimingWheel() {
+        this(DEFAULT_WHEEL_BITS, DEFAULT_LEVELS);
+    }
+
+    /**
+     * Constructs a timing wheel with a specified number of slots per level and
+     * number of levels.
+     *
+     * @param inputWheelBits base-2 logarithm of the number of slots per level
+     * @param levels number of levels
+     * @throws IllegalArgumentException if inputWheelBits or levels is not
+     * positive, or if the wheel would span more than 2^62 ticks
+     */
+    public MyTimingWheel(int inputWheelBits, int levels)
+        throws IllegalArgumentException {
+        if (inputWheelBits <= 0 || levels <= 0) {
+            throw new IllegalArgumentException("Non-positive size provided");
+        }
+        if ((long) inputWheelBits * levels > 62) {
+            throw new IllegalArgumentException("Wheel span is too large");
+        }
+        wheelBits = inputWheelBits;
+        mask = (1L << wheelBits) - 1;
+        wheels = new MyTimingWheel.Slot[levels][1 << wheelBits];
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot < wheels[level].length; slot++) {
+                wheels[level][slot] = new Slot();
+            }
+        }
+    }
+
+    /**
+     * Advances time by a number of ticks, offering the task of every timeout
+     * that expires to a queue in deadline order.
+     *
+     * @param ticks number of ticks to advance by
+     * @param expired queue receiving expired tasks
+     * @return number of expired tasks
+     * @throws IllegalArgumentException if ticks is negative
+     */
+    public int advance(long ticks, MyQueue<? super T> expired)
+        throws IllegalArgumentException {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("Negative ticks provided");
+        }
+        int count = 0;
+        for (long i = 0; i < ticks; i++) {
+            ++currentTick;
+            for (int level = wheels.length - 1; level > 0; level--) {
+                long levelMask = (1L << (wheelBits * level)) - 1;
+                if ((currentTick & levelMask) == 0) {
+                    cascade(level);
+                }
+            }
+            Slot slot = wheels[0][(int) (currentTick & mask)];
+            Timeout timeout = slot.head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                slot.unlink(timeout);
+                if (timeout.deadline > currentTick) {
+                    // Deadline is beyond the span of the wheel, so the
+                    // timeout was parked in this slot and goes round again
+                    place(timeout);
+                } else {
+                    timeout.slot = null;
+                    --size;
+                    expired.offer(timeout.task);
+                    ++count;
+                }
+                timeout = next;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Cancels all pending timeouts.
+     */
+    public void clear() {
+        for (Slot[] wheel : wheels) {
+            for (Slot slot : wheel) {
+                for (Timeout t = slot.head; t != null; t = t.next) {
+                    t.slot = null;
+                }
+                slot.head = null;
+                slot.tail = null;
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the current time in ticks.
+     *
+     * @return ticks advanced since this timing wheel was constructed
+     */
+    public long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Checks if this timing wheel has no pending timeouts.
+     *
+     * @return true if this timing wheel is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Schedules a task to expire after a number of ticks.
+     *
+     * @param task task to schedule
+     * @param delay number of ticks until the task expires; a delay of 0 is
+     * treated as 1, i.e. the next tick
+     * @return handle which can be used to cancel the timeout
+     * @throws IllegalArgumentException if delay is negative
+     */
+    public Timeout schedule(T task, long delay)
+        throws IllegalArgumentException {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Negative delay provided");
+        }
+        Timeout timeout = new Timeout(task, currentTick + Math.max(delay, 1));
+        place(timeout);
+        ++size;
+        return timeout;
+    }
+
+    /**
+     * Returns the number of pending timeouts.
+     *
+     * @return number of pending timeouts
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves every timeout in the current slot of a level to a lower level.
+     *
+     * @param level level to cascade
+     */
+    private void cascade(int level) {
+        Slot slot = wheels[level][(int) ((currentTick >>> (wheelBits * level))
+            & mask)];
+        Timeout timeout = slot.head;
+        slot.head = null;
+        slot.tail = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.previous = null;
+            timeout.next = null;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    /**
+     * Links a timeout into the slot matching its deadline. A deadline beyond
+     * the span of the wheel is parked in the furthest slot, and the timeout
+     * is placed again when that slot comes up.
+     *
+     * @param timeout timeout to place
+     */
+    private void place(Timeout timeout) {
+        long span = 1L << (wheelBits * wheels.length);
+        long deadline = Math.min(timeout.deadline, currentTick + span - 1);
+        long delta = deadline - currentTick;
+        int level = 0;
+        while (level < wheels.length - 1
+            && delta >= 1L << (wheelBits * (level + 1))) {
+            level++;
+        }
+        int index = (int) ((deadline >>> (wheelBits * level)) & mask);
+        wheels[level][index].link(timeout);
+    }
+
+    /**
+     * Handle to a scheduled timeout.
+     */
+    public final class Timeout {
+        /**
+         * Task to hand out when this timeout expires.
+         */
+        private final T task;
+
+        /**
+         * Tick at which this timeout expires.
+         */
+        private final long deadline;
+
+        /**
+         * Slot this timeout is linked into, or null if it has expired or
+         * been cancelled.
+         */
+        private Slot slot;
+
+        /**
+         * Previous timeout in the same slot.
+         */
+        private Timeout previous;
+
+        /**
+         * Next timeout in the same slot.
+         */
+        private Timeout next;
+
+        /**
+         * Constructs a timeout.
+         *
+         * @param task task to hand out on expiry
+         * @param deadline tick at which this timeout expires
+         */
+        private Timeout(T task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels this timeout so that its task never expires.
+         *
+         * @return true if this timeout was pending, false if it had already
+         * expired or been cancelled
+         */
+        public boolean cancel() {
+            if (slot == null) {
+                return false;
+            }
+            slot.unlink(this);
+            slot = null;
+            --size;
+            return true;
+        }
+
+        /**
+         * Returns the tick at which this timeout expires.
+         *
+         * @return deadline in ticks
+         */
+        public long deadline() {
+            return deadline;
+        }
+
+        /**
+         * Checks if this timeout is still waiting to expire.
+         *
+         * @return true if pending, false if expired or cancelled
+         */
+        public boolean isPending() {
+            return slot != null;
+        }
+
+        /**
+         * Returns the task of this timeout.
+         *
+         * @return task
+         */
+        public T task() {
+            return task;
+        }
+    }
+
+    /**
+     * Internal slot holding a doubly linked list of timeouts.
+     */
+    private class Slot {
+        /**
+         * First timeout in this slot.
+         */
+        private Timeout head = null;
+
+        /**
+         * Last timeout in this slot.
+         */
+        private Timeout tail = null;
+
+        /**
+         * Appends a timeout to this slot.
+         *
+         * @param timeout timeout to append
+         */
+        private void link(Timeout timeout) {
+            timeout.slot = this;
+            timeout.previous = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        /**
+         * Removes a timeout from this slot.
+         *
+         * @param timeout timeout to remove
+         */
+        private void unlink(Timeout timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+        }
+    }
+}
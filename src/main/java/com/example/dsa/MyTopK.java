@@ -0,0 +1,182 @@
+package com.example.dsa;
+
+/**
+ * A bounded collector which retains only the K best elements of a stream,
+ * using memory proportional to K rather than to the stream. The retained
+ * elements are kept in a heap ordered the opposite way (a min heap when
+ * keeping the largest elements), so the worst retained element is always at
+ * the head and an element which does not qualify is rejected with a single
+ * comparison.
+ *
+ * @param <T> data type which much implement Comparable
+ */
+@SuppressWarnings("unchecked")
+public class MyTopK<T extends Comparable<? super T>> {
+    /**
+     * Heap of retained elements, with the worst one at its head.
+     */
+    private final MyPriorityQueue<T> heap;
+
+    /**
+     * Maximum number of elements to retain.
+     */
+    private final int k;
+
+    /**
+     * Whether the largest or the smallest elements are retained.
+     */
+    private final boolean keepLargest;
+
+    /**
+     * Constructs a collector which retains the k largest elements.
+     *
+     * @param k maximum number of elements to retain
+     * @throws IllegalArgumentException if k is not positive
+     */
+    public MyTopK(int k) throws IllegalArgumentException {
+        this(k, true);
+    }
+
+    /**
+     * Constructs a collector which retains either the k largest or the k
+     * smallest elements.
+     *
+     * @param k maximum number of elements to retain
+     * @param inputKeepLargest if true, the largest elements are retained;
+     * otherwise, the smallest elements are retained
+     * @throws IllegalArgumentException if k is not positive
+     */
+    public MyTopK(int k, boolean inputKeepLargest)
+        throws IllegalArgumentException {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Non-positive k provided");
+        }
+        this.k = k;
+        this.keepLargest = inputKeepLargest;
+        heap = new MyPriorityQueue<>(k + 1, inputKeepLargest, 2, true);
+    }
+
+    /**
+     * Returns the length of the internal array of the heap. Used in tests.
+     *
+     * @return capacity of the heap
+     */
+    int capacity() {
+        return heap.capacity();
+    }
+
+    /**
+     * Empties this collector of all elements.
+     */
+    public void clear() {
+        heap.clear();
+    }
+
+    /**
+     * Checks if this collector has no elements.
+     *
+     * @return true if this collector is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    /**
+     * Returns the maximum number of elements this collector retains.
+     *
+     * @return k
+     */
+    public int k() {
+        return k;
+    }
+
+    /**
+     * Offers every element retained by another collector, e.g. the partial
+     * result of another partition of the stream.
+     *
+     * @param other collector whose elements to offer
+     */
+    public void merge(MyTopK<? extends T> other) {
+        Object[] elements = other.heap.toArray();
+        int otherSize = other.heap.size();
+        for (int i = 0; i < otherSize; i++) {
+            offer((T) elements[i]);
+        }
+    }
+
+    /**
+     * Offers an element, retaining it if it is among the k best seen so far.
+     * Null elements are not permitted.
+     *
+     * @param element element to offer
+     * @return true if element was retained, false otherwise
+     */
+    public boolean offer(T element) {
+        if (element == null) {
+            return false;
+        }
+        if (heap.size() < k) {
+            heap.offer(element);
+            return true;
+        }
+        int comparison = element.compareTo(heap.peek());
+        if (keepLargest ? comparison <= 0 : comparison >= 0) {
+            return false;
+        }
+        heap.poll();
+        heap.offer(element);
+        return true;
+    }
+
+    /**
+     * Returns the number of elements retained by this collector.
+     *
+     * @return number of retained elements, at most k
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the worst retained element, which an offered element must beat
+     * to be retained once this collector is full.
+     *
+     * @return worst retained element, or null if collector is empty
+     */
+    public T threshold() {
+        return heap.peek();
+    }
+
+    /**
+     * Returns the retained elements sorted best first, i.e. in descending
+     * order when keeping the largest elements. This collector is unchanged.
+     *
+     * @return sorted list of retained elements
+     */
+    public MyList<T> toSortedList() {
+        int size = heap.size();
+        Object[] elements = heap.toArray();
+        T[] sorted = (T[]) new Comparable[size];
+        System.arraycopy(elements, 0, sorted, 0, size);
+        MyPriorityQueue<T> copy = new MyPriorityQueue<>(sorted, keepLargest);
+        for (int i = size - 1; i >= 0; i--) {
+            sorted[i] = copy.poll();
+        }
+        MyList<T> list = new MyArrayList<>(size);
+        for (T element : sorted) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Returns a string representation of the retained elements sorted best
+     * first, e.g. "[element1, element2, element3, ..., elementN]".
+     *
+     * @return string form of this collector
+     */
+    @Override
+    public String toString() {
+        return toSortedList().toString();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.dsa;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A Chase-Lev work-stealing deque. The owning thread pushes and pops elements
+ * at the bottom (LIFO), while any other thread may steal elements from the top
+ * (FIFO) without taking a lock.
+ *
+ * @param <T> data type
+ */
+public class MyWorkStealingDeque<T> {
+    /**
+     * Internal circular array used by this deque. Its length is always a power
+     * of two.
+     */
+    private volatile AtomicReferenceArray<T> array;
+
+    /**
+     * Index of the topmost element, advanced by thieves and by the owner when
+     * it takes the last element.
+     */
+    private final AtomicLong top = new AtomicLong();
+
+    /**
+     * Index one past the bottommost element, only written by the owner.
+     */
+    private volatile long bottom;
+
+    /**
+     * Default capacity for a work-stealing deque.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Constructs a work-stealing deque with a default initial capacity of 16.
+     */
+    public MyWorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a work-stealing deque with a specified initial capacity,
+     * rounded up to the next power of two.
+     *
+     * @param initialCapacity initial capacity of this deque
+     * @throws IllegalArgumentException if initialCapacity is not positive
+     */
+    public MyWorkStealingDeque(int initialCapacity)
+        throws IllegalArgumentException {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException(
+                "Non-positive capacity provided");
+        }
+        int capacity = Integer.highestOneBit(initialCapacity);
+        if (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+        array = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Checks if this deque has no elements. The result is only a snapshot when
+     * other threads are stealing concurrently.
+     *
+     * @return true if this deque is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return bottom <= top.get();
+    }
+
+    /**
+     * Retrieves and removes the element at the bottom of this deque. Must only
+     * be called by the owning thread.
+     *
+     * @return bottommost element, or null if deque is empty
+     */
+    public T pop() {
+        long b = bottom - 1;
+        AtomicReferenceArray<T> a = array;
+        bottom = b;
+        long t = top.get();
+        if (t > b) {
+            bottom = b + 1;
+            return null;
+        }
+        int index = (int) b & (a.length() - 1);
+        T element = a.get(index);
+        if (t == b) {
+            // Last element: race any thief for it
+            if (!top.compareAndSet(t, t + 1)) {
+                element = null;
+            }
+            bottom = b + 1;
+        } else {
+            a.set(index, null);
+        }
+        return element;
+    }
+
+    /**
+     * Inserts an element at the bottom of this deque. Must only be called by
+     * the owning thread. Null elements are not permitted.
+     *
+     * @param element element to add
+     */
+    public void push(T element) {
+        if (element != null) {
+            long b = bottom;
+            long t = top.get();
+            AtomicReferenceArray<T> a = array;
+            if (b - t >= a.length() - 1) {
+                a = grow(a, t, b);
+            }
+            a.set((int) b & (a.length() - 1), element);
+            bottom = b + 1;
+        }
+    }
+
+    /**
+     * Returns the number of elements in this deque. The result is only a
+     * snapshot when other threads are stealing concurrently.
+     *
+     * @return size of deque
+     */
+    public int size() {
+        long size = bottom - top.get();
+        return size < 0 ? 0 : (int) size;
+    }
+
+    /**
+     * Retrieves and removes the element at the top of this deque. May be
+     * called by any thread.
+     *
+     * @return topmost element, or null if deque is empty or another thread
+     * won the race for the topmost element
+     */
+    public T steal() {
+        long t = top.get();
+        long b = bottom;
+        if (t >= b) {
+            return null;
+        }
+        AtomicReferenceArray<T> a = array;
+        T element = a.get((int) t & (a.length() - 1));
+        if (!top.compareAndSet(t, t + 1)) {
+            return null;
+        }
+        return element;
+    }
+
+    /**
+     * Doubles the size of the internal array, copying the live range of
+     * elements. Used in push method.
+     *
+     * @param oldArray current internal array
+     * @param t current top index
+     * @param b current bottom index
+     * @return new internal array
+     */
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> oldArray,
+        long t, long b) {
+        int oldMask = oldArray.length() - 1;
+        AtomicReferenceArray<T> newArray =
+            new AtomicReferenceArray<>(oldArray.length() * 2);
+        int newMask = newArray.length() - 1;
+        for (long i = t; i < b; i++) {
+            newArray.set((int) i & newMask, oldArray.get((int) i & oldMask));
+        }
+        array = newArray;
+        return newArray;
+    }
+}
@@ -2,6 +2,10 @@ package com.example.dsa;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -24,6 +28,441 @@ class AlgorithmsTest {
         assertTrue(true, "Not true");
     }
 
+    @Test
+    void testMergesort() {
+        Random random = new Random(43);
+        int n = 20000;
+        Integer[][] inputs = new Integer[5][n];
+        for (int i = 0; i < n; i++) {
+            inputs[0][i] = i;
+            inputs[1][i] = n - i;
+            inputs[2][i] = i + random.nextInt(20);
+            inputs[3][i] = i % 1000 < 500 ? i : -i;
+        }
+        inputs[4] = randomArray(n, n);
+        for (Integer[] input : inputs) {
+            Integer[] expected = input.clone();
+            Arrays.sort(expected);
+            Integer[] array = input.clone();
+            Algorithms.mergesort(array);
+            assertArrayEquals(expected, array);
+        }
+        Integer[] small = {3, 1, 2};
+        Algorithms.mergesort(small);
+        assertArrayEquals(new Integer[] {1, 2, 3}, small);
+        Algorithms.mergesort(new Integer[0]);
+
+        Integer[] keys = randomArray(30000, 7);
+        Entry[] entries = new Entry[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            entries[i] = new Entry(keys[i], i);
+        }
+        Algorithms.mergesort(entries);
+        for (int i = 1; i < entries.length; i++) {
+            assertTrue(entries[i - 1].key < entries[i].key
+                || entries[i - 1].key == entries[i].key && entries[i - 1].index < entries[i].index);
+        }
+
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        for (Integer element : randomArray(5000, 100)) {
+            list.add(element);
+        }
+        Algorithms.mergesort(list);
+        assertEquals(5000, list.size());
+        assertSorted(list);
+    }
+
+    @Test
+    void testHeapsort() {
+        Integer[] array = randomArray(20000, 500);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+        Algorithms.heapsort(array);
+        assertArrayEquals(expected, array);
+        Algorithms.heapsort(new Integer[0]);
+
+        MyArrayList<Integer> arrayList = new MyArrayList<>();
+        MyLinkedList<Integer> linkedList = new MyLinkedList<>();
+        for (Integer element : randomArray(20000, 20000)) {
+            arrayList.add(element);
+            linkedList.add(element);
+        }
+        Algorithms.heapsort(arrayList);
+        assertEquals(20000, arrayList.size());
+        assertSorted(arrayList);
+        Algorithms.heapsort(linkedList);
+        assertEquals(20000, linkedList.size());
+        assertArrayEquals(arrayList.toArray(), linkedList.toArray());
+        Algorithms.heapsort(new MyArrayList<Integer>());
+    }
+
+    @Test
+    void testSortLinkedList() {
+        assertTrue(new MyArrayList<Integer>() instanceof MyRandomAccess);
+        assertFalse(new MyLinkedList<Integer>() instanceof MyRandomAccess);
+        Integer[] values = randomArray(100000, 1000);
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        for (int i = values.length - 1; i >= 0; i--) {
+            list.add(0, values[i]);
+        }
+        Algorithms.quicksort(list);
+        assertArrayEquals(expected, list.toArray());
+
+        list.clear();
+        for (int i = values.length - 1; i >= 0; i--) {
+            list.add(0, values[i]);
+        }
+        Algorithms.heapsort(list);
+        assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test
+    void testParallelMergesort() {
+        Integer[] array = randomArray(100000, 1000);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+        Algorithms.parallelMergesort(array);
+        assertArrayEquals(expected, array);
+        Algorithms.parallelMergesort(new Integer[0]);
+
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        for (Integer element : randomArray(20000, 50)) {
+            list.add(element);
+        }
+        Algorithms.parallelMergesort(list);
+        assertSorted(list);
+    }
+
+    @Test
+    void testParallelMergesortStable() {
+        Integer[] keys = randomArray(50000, 10);
+        Entry[] entries = new Entry[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            entries[i] = new Entry(keys[i], i);
+        }
+        Algorithms.parallelMergesort(entries);
+        for (int i = 1; i < entries.length; i++) {
+            assertTrue(entries[i - 1].key < entries[i].key
+                || entries[i - 1].key == entries[i].key && entries[i - 1].index < entries[i].index);
+        }
+    }
+
+    @Test
+    void testParallelQuicksort() {
+        Integer[] array = randomArray(100000, 100000);
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+        Algorithms.parallelQuicksort(array);
+        assertArrayEquals(expected, array);
+        Algorithms.parallelQuicksort(new Integer[0]);
+
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (Integer element : randomArray(20000, 20000)) {
+            list.add(element);
+        }
+        Algorithms.parallelQuicksort(list);
+        assertEquals(20000, list.size());
+        assertSorted(list);
+    }
+
+    @Test
+    void testQuicksort() {
+        int n = 10000;
+        Integer[][] inputs = new Integer[5][n];
+        for (int i = 0; i < n; i++) {
+            inputs[0][i] = i;
+            inputs[1][i] = n - i;
+            inputs[2][i] = i < n / 2 ? i : n - i;
+            inputs[3][i] = 7;
+        }
+        inputs[4] = randomArray(n, 100);
+        for (Integer[] input : inputs) {
+            Integer[] expected = input.clone();
+            Arrays.sort(expected);
+            Integer[] array = input.clone();
+            Algorithms.quicksort(array);
+            assertArrayEquals(expected, array);
+        }
+        Algorithms.quicksort(new Integer[0]);
+
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (Integer element : randomArray(5000, 10)) {
+            list.add(element);
+        }
+        Algorithms.quicksort(list);
+        assertEquals(5000, list.size());
+        assertSorted(list);
+    }
+
+    @Test
+    void testRadixSortInt() {
+        Random random = new Random(44);
+        int[] array = new int[50000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt();
+        }
+        array[0] = Integer.MIN_VALUE;
+        array[1] = Integer.MAX_VALUE;
+        array[2] = -1;
+        array[3] = 0;
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        Algorithms.radixSort(array);
+        assertArrayEquals(expected, array);
+
+        int[] small = {300, 5, 70000, 5, 0};
+        Algorithms.radixSort(small);
+        assertArrayEquals(new int[] {0, 5, 5, 300, 70000}, small);
+        Algorithms.radixSort(new int[0]);
+    }
+
+    @Test
+    void testRadixSortLong() {
+        Random random = new Random(45);
+        long[] array = new long[50000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i % 2 == 0 ? random.nextLong() : random.nextInt(1000) - 500;
+        }
+        array[0] = Long.MIN_VALUE;
+        array[1] = Long.MAX_VALUE;
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+        Algorithms.radixSort(array);
+        assertArrayEquals(expected, array);
+        Algorithms.radixSort(new long[0]);
+    }
+
+    @Test
+    void testRadixSortString() {
+        Random random = new Random(46);
+        String[] array = new String[20000];
+        for (int i = 0; i < array.length; i++) {
+            StringBuilder builder = new StringBuilder("id-");
+            int length = random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                builder.append((char) (random.nextInt(10) == 0 ? 0x3b1 + random.nextInt(3) : 'a' + random.nextInt(4)));
+            }
+            array[i] = builder.toString();
+        }
+        String[] expected = array.clone();
+        Arrays.sort(expected);
+        Algorithms.radixSort(array);
+        assertArrayEquals(expected, array);
+
+        String[] small = {"b", "", "ab", "a"};
+        Algorithms.radixSort(small);
+        assertArrayEquals(new String[] {"", "a", "ab", "b"}, small);
+
+        // A long common prefix must not cost a stack frame per character
+        String prefix = "x".repeat(200000);
+        String[] shared = new String[64];
+        for (int i = 0; i < shared.length; i++) {
+            shared[i] = prefix + (char) ('a' + random.nextInt(26)) + i;
+        }
+        expected = shared.clone();
+        Arrays.sort(expected);
+        Algorithms.radixSort(shared);
+        assertArrayEquals(expected, shared);
+    }
+
+    @Test
+    void testRadixSortByKey() {
+        Integer[] keys = randomArray(20000, 50);
+        MyArrayList<Entry> list = new MyArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            list.add(new Entry(keys[i] - 25, i));
+        }
+        Algorithms.radixSortByInt(list, Entry::key);
+        for (int i = 1; i < list.size(); i++) {
+            Entry previous = list.get(i - 1);
+            Entry current = list.get(i);
+            assertTrue(previous.key < current.key
+                || previous.key == current.key && previous.index < current.index);
+        }
+        Algorithms.radixSortByLong(list, entry -> -(long) entry.index);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(list.size() - 1 - i, list.get(i).index);
+        }
+    }
+
+    @Test
+    void testComparatorSorts() {
+        Integer[] expected = randomArray(5000, 1000);
+        Arrays.sort(expected, Comparator.reverseOrder());
+        Integer[] array = randomArray(5000, 1000);
+        Algorithms.mergesort(array, Comparator.reverseOrder());
+        assertArrayEquals(expected, array);
+        array = randomArray(5000, 1000);
+        Algorithms.quicksort(array, Comparator.reverseOrder());
+        assertArrayEquals(expected, array);
+        array = randomArray(5000, 1000);
+        Algorithms.heapsort(array, Comparator.reverseOrder());
+        assertArrayEquals(expected, array);
+
+        MyList<Integer> list = new MyLinkedList<>();
+        for (Integer element : randomArray(5000, 1000)) {
+            list.add(element);
+        }
+        Algorithms.quicksort(list, Comparator.reverseOrder());
+        assertArrayEquals(expected, list.toArray());
+        assertEquals(expected[42], list.get(
+            Algorithms.binarySearch(list, expected[42],
+                Comparator.reverseOrder())));
+        assertEquals(-1, Algorithms.binarySearch(expected, 1000,
+            Comparator.reverseOrder()));
+    }
+
+    @Test
+    void testKeySorts() {
+        Integer[] keys = randomArray(5000, 100);
+        Entry[] array = new Entry[keys.length];
+        MyList<Entry> list = new MyLinkedList<>();
+        for (int i = 0; i < keys.length; i++) {
+            array[i] = new Entry(keys[i], i);
+            list.add(array[i]);
+        }
+        Algorithms.mergesortByInt(list, Entry::key);
+        for (int i = 1; i < list.size(); i++) {
+            Entry previous = list.get(i - 1);
+            Entry current = list.get(i);
+            assertTrue(previous.key < current.key
+                || previous.key == current.key && previous.index < current.index);
+        }
+        Algorithms.quicksortByLong(array, entry -> -(long) entry.index);
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(array.length - 1 - i, array[i].index);
+        }
+        Algorithms.heapsortByInt(array, Entry::index);
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i, array[i].index);
+        }
+        assertEquals(1234,
+            Algorithms.binarySearchByInt(array, 1234, Entry::index));
+        assertEquals(-1,
+            Algorithms.binarySearchByLong(array, -5L, entry -> entry.index));
+
+        Algorithms.quicksortByInt(array, Entry::key);
+        Algorithms.heapsortByLong(list, entry -> entry.index);
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1].key <= array[i].key);
+            assertEquals(i, list.get(i).index);
+        }
+        int index = Algorithms.binarySearchByInt(array, keys[7], Entry::key);
+        assertEquals((int) keys[7], array[index].key);
+    }
+
+    @Test
+    void testSelect() {
+        Integer[] expected = randomArray(10001, 500);
+        Arrays.sort(expected);
+        for (int k : new int[] {0, 1, 5000, 9899, 10000}) {
+            Integer[] array = randomArray(10001, 500);
+            assertEquals(expected[k], Algorithms.select(array, k));
+            for (int i = 0; i < array.length; i++) {
+                assertTrue(i < k ? array[i] <= array[k] : array[i] >= array[k]);
+            }
+        }
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (Integer element : randomArray(10001, 500)) {
+            list.add(element);
+        }
+        assertEquals(expected[10000 - 42], Algorithms.select(list, 42, Comparator.reverseOrder()));
+        assertThrows(IndexOutOfBoundsException.class, () -> Algorithms.select(list, 10001));
+        assertThrows(IndexOutOfBoundsException.class, () -> Algorithms.nthElement(new int[0], 0));
+
+        int[] ints = new int[10001];
+        long[] longs = new long[10001];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = (i * 7919) % 10001 - 5000;
+            longs[i] = ints[i] * 1000000007L;
+        }
+        assertEquals(0, Algorithms.select(ints, 5000));
+        assertEquals(4900, Algorithms.select(ints, 9900));
+        assertEquals(-5000 * 1000000007L, Algorithms.select(longs, 0));
+    }
+
+    @Test
+    void testSelectAdversarial() {
+        // Organ pipe and constant inputs defeat median-of-three pivots
+        int[] ints = new int[20000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = i < 10000 ? i : 19999 - i;
+        }
+        assertEquals(5000, Algorithms.select(ints, 10000));
+        long[] longs = new long[20000];
+        Arrays.fill(longs, 7);
+        assertEquals(7, Algorithms.select(longs, 12345));
+        Integer[] array = new Integer[20000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i % 2 == 0 ? i : array.length - i;
+        }
+        Integer[] expected = array.clone();
+        Arrays.sort(expected);
+        assertEquals(expected[777], Algorithms.select(array, 777));
+    }
+
+    @Test
+    void testPartialSort() {
+        Integer[] expected = randomArray(5000, 1000);
+        Arrays.sort(expected);
+        Integer[] array = randomArray(5000, 1000);
+        Algorithms.partialSort(array, 100);
+        assertArrayEquals(Arrays.copyOf(expected, 100), Arrays.copyOf(array, 100));
+        Integer[] full = randomArray(5000, 1000);
+        Algorithms.partialSort(full, 5000);
+        assertArrayEquals(expected, full);
+        Algorithms.partialSort(full, 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> Algorithms.partialSort(full, 5001));
+
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (Integer element : randomArray(5000, 1000)) {
+            list.add(element);
+        }
+        Algorithms.partialSort(list, 10, Comparator.reverseOrder());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expected[4999 - i], list.get(i));
+        }
+
+        int[] ints = new int[5000];
+        long[] longs = new long[5000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = expected[(i * 7919) % 5000];
+            longs[i] = -ints[i];
+        }
+        Algorithms.partialSort(ints, 2500);
+        Algorithms.partialSort(longs, 2500);
+        for (int i = 0; i < 2500; i++) {
+            assertEquals((int) expected[i], ints[i]);
+            assertEquals(-(long) expected[4999 - i], longs[i]);
+        }
+    }
+
+    static Integer[] randomArray(int length, int bound) {
+        Random random = new Random(length);
+        Integer[] array = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextInt(bound);
+        }
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<? super T>> void assertSorted(MyList<T> list) {
+        Object[] elements = list.toArray();
+        for (int i = 1; i < elements.length; i++) {
+            assertTrue(((T) elements[i - 1]).compareTo((T) elements[i]) <= 0);
+        }
+    }
+
+    record Entry(int key, int index) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+
     @AfterEach
     void tearDown() {
 
@@ -91,6 +91,17 @@ class MyArrayListTest {
         assertTrue(myArrayList.isEmpty());
     }
 
+    @Test
+    void testRemoveShrink() {
+        for (int i = 0; i < 1000; i++) {
+            myArrayList.add(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, myArrayList.remove(0));
+        }
+        assertTrue(myArrayList.isEmpty());
+    }
+
     @Test
     void testRemoveElement() {
         assertFalse(myArrayList.removeElement(5));
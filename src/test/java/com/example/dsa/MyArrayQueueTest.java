@@ -64,6 +64,50 @@ class MyArrayQueueTest {
         assertTrue(myArrayQueue.isEmpty());
     }
 
+    @Test
+    void testPollShrink() {
+        for (int i = 0; i < 1000; i++) {
+            myArrayQueue.offer(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, myArrayQueue.poll());
+        }
+        assertTrue(myArrayQueue.isEmpty());
+    }
+
+    @Test
+    void testOfferAllPollBatch() {
+        Integer[] values = new Integer[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        assertEquals(500, myArrayQueue.offerAll(values));
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        list.add(500);
+        list.add(null);
+        list.add(501);
+        assertEquals(2, myArrayQueue.offerAll(list));
+        assertEquals(502, myArrayQueue.size());
+        assertThrows(IllegalArgumentException.class, () -> myArrayQueue.pollBatch(-1, new Integer[1]));
+        Integer[] out = new Integer[100];
+        int next = 0;
+        int count;
+        while ((count = myArrayQueue.pollBatch(1000, out)) > 0) {
+            for (int i = 0; i < count; i++) {
+                assertEquals(next++, out[i]);
+            }
+        }
+        assertEquals(502, next);
+        assertTrue(myArrayQueue.isEmpty());
+        assertTrue(myArrayQueue.capacity() <= 100);
+        MyArrayQueue<Integer> full = new MyArrayQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            full.offer(i);
+        }
+        assertEquals(0, full.pollBatch(0, out));
+        assertEquals(4, full.capacity());
+    }
+
     @Test
     void testSize() {
         assertEquals(0, myArrayQueue.size());
@@ -0,0 +1,101 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyConcurrentStackTest {
+    MyConcurrentStack<Integer> myStack;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myStack = new MyConcurrentStack<>();
+    }
+
+    @Test
+    void testPushPop() {
+        assertNull(myStack.pop());
+        assertNull(myStack.peek());
+        for (int i = 0; i < 100; i++) {
+            myStack.push(i);
+        }
+        assertEquals(100, myStack.size());
+        assertEquals(99, myStack.peek());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, myStack.pop());
+        }
+        assertTrue(myStack.isEmpty());
+    }
+
+    @Test
+    void testConcurrentPushPop() throws InterruptedException {
+        int threads = 16;
+        int perThread = 20_000;
+        AtomicLong poppedSum = new AtomicLong();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 1; i <= perThread; i++) {
+                    myStack.push(i);
+                    Integer element = myStack.pop();
+                    if (element != null) {
+                        poppedSum.addAndGet(element);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long remaining = 0;
+        for (Integer element = myStack.pop(); element != null; element = myStack.pop()) {
+            remaining += element;
+        }
+        long expected = (long) threads * perThread * (perThread + 1) / 2;
+        assertEquals(expected, poppedSum.get() + remaining);
+    }
+
+    @Test
+    void testEquals() {
+        assertTrue(myStack.equals(myStack));
+        assertFalse(myStack.equals(null));
+        MyConcurrentStack<Integer> myStack2 = new MyConcurrentStack<>();
+        myStack2.push(5);
+        assertFalse(myStack.equals(myStack2));
+        myStack.push(5);
+        assertTrue(myStack.equals(myStack2));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("[]", myStack.toString());
+        myStack.push(5);
+        assertEquals("[5]", myStack.toString());
+        myStack.push(6);
+        assertEquals("[5, 6]", myStack.toString());
+        myStack.clear();
+        assertEquals(0, myStack.size());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyDoublePriorityQueueTest {
+    MyDoublePriorityQueue<String> myDoublePriorityQueue;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myDoublePriorityQueue = new MyDoublePriorityQueue<>();
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyDoublePriorityQueue<String>(-1, true));
+    }
+
+    @Test
+    void testOfferPoll() {
+        assertThrows(NoSuchElementException.class, () -> myDoublePriorityQueue.peek());
+        assertThrows(IllegalArgumentException.class, () -> myDoublePriorityQueue.offer(Double.NaN));
+        for (int i = 0; i < 1000; i++) {
+            myDoublePriorityQueue.offer(((i * 7919) % 1000) / 4.0);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i / 4.0, myDoublePriorityQueue.poll());
+        }
+        assertTrue(myDoublePriorityQueue.isEmpty());
+    }
+
+    @Test
+    void testPayloads() {
+        MyDoublePriorityQueue<String> maxHeap = new MyDoublePriorityQueue<>(false);
+        maxHeap.offer(0.5, "half");
+        maxHeap.offer(2.5, 7);
+        assertEquals(2.5, maxHeap.peek());
+        assertEquals(7, maxHeap.peekIntPayload());
+        maxHeap.poll();
+        assertEquals("half", maxHeap.peekPayload());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("[]", myDoublePriorityQueue.toString());
+        myDoublePriorityQueue.offer(6);
+        myDoublePriorityQueue.offer(5);
+        assertEquals("[5.0, 6.0]", myDoublePriorityQueue.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
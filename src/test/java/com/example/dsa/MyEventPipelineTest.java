@@ -0,0 +1,131 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyEventPipelineTest {
+    static class Event {
+        long value;
+        long doubled;
+    }
+
+    MyEventPipeline<Event> myPipeline;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myPipeline = new MyEventPipeline<>(60, Event::new, MyEventPipeline.WaitStrategy.YIELD);
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new MyEventPipeline<>(0, Event::new, MyEventPipeline.WaitStrategy.PARK));
+        assertEquals(64, myPipeline.bufferSize());
+    }
+
+    @Test
+    void testStages() throws InterruptedException {
+        long[] sum = new long[1];
+        long[] last = {-1};
+        myPipeline.addStage((event, sequence, endOfBatch) -> event.doubled = event.value * 2);
+        myPipeline.addStage((event, sequence, endOfBatch) -> {
+            assertEquals(last[0] + 1, sequence);
+            last[0] = sequence;
+            sum[0] += event.doubled;
+        });
+        myPipeline.start();
+        assertThrows(IllegalStateException.class, () -> myPipeline.addStage((e, s, b) -> { }));
+        for (int i = 0; i < 10_000; i++) {
+            long value = i;
+            myPipeline.publish(event -> event.value = value);
+        }
+        myPipeline.halt();
+        assertEquals(9_999L * 10_000L, sum[0]);
+    }
+
+    @Test
+    void testClaimPublish() throws InterruptedException {
+        int[] batches = new int[1];
+        long[] count = new long[1];
+        myPipeline.addStage((event, sequence, endOfBatch) -> {
+            count[0]++;
+            if (endOfBatch) {
+                batches[0]++;
+            }
+        });
+        myPipeline.start();
+        for (int i = 0; i < 1000; i++) {
+            long sequence = myPipeline.next();
+            myPipeline.get(sequence).value = i;
+            myPipeline.publish(sequence);
+        }
+        myPipeline.halt();
+        assertEquals(1000, count[0]);
+        assertTrue(batches[0] >= 1);
+    }
+
+    @Test
+    void testFailure() throws InterruptedException {
+        myPipeline.addStage((event, sequence, endOfBatch) -> {
+            throw new IllegalStateException("boom");
+        });
+        myPipeline.start();
+        myPipeline.publish(event -> event.value = 1);
+        assertThrows(IllegalStateException.class, () -> myPipeline.halt());
+    }
+
+    @Test
+    void testFailureMidBatch() throws InterruptedException {
+        long[] handled = new long[1];
+        long[] passed = new long[1];
+        myPipeline.addStage((event, sequence, endOfBatch) -> {
+            if (sequence == 3) {
+                throw new IllegalStateException("boom");
+            }
+            handled[0]++;
+        });
+        myPipeline.addStage((event, sequence, endOfBatch) -> passed[0]++);
+        for (int i = 0; i < 10; i++) {
+            long value = i;
+            myPipeline.publish(event -> event.value = value);
+        }
+        myPipeline.start();
+        assertThrows(IllegalStateException.class, () -> myPipeline.halt());
+        assertEquals(9, handled[0]);
+        assertEquals(10, passed[0]);
+    }
+
+    @Test
+    void testError() throws InterruptedException {
+        myPipeline.addStage((event, sequence, endOfBatch) -> {
+            if (sequence == 0) {
+                throw new Error("boom");
+            }
+        });
+        myPipeline.start();
+        for (int i = 0; i < 1000; i++) {
+            myPipeline.publish(event -> event.value = 1);
+        }
+        assertThrows(Error.class, () -> myPipeline.halt());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
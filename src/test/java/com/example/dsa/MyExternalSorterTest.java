@@ -0,0 +1,110 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MyExternalSorterTest {
+    MyExternalSorter myExternalSorter;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myExternalSorter = new MyExternalSorter(8, Arrays::compareUnsigned, 800, 3, directory);
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyExternalSorter(0));
+        assertThrows(IllegalArgumentException.class, () -> new MyExternalSorter(8, Arrays::compareUnsigned, 4, 2, directory));
+        assertThrows(IllegalArgumentException.class, () -> new MyExternalSorter(8, Arrays::compareUnsigned, 800, 1, directory));
+    }
+
+    @Test
+    void testSort() throws IOException {
+        Random random = new Random(48);
+        long[] values = new long[10000];
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * 8);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong() >>> 1;
+            buffer.putLong(values[i]);
+        }
+        Path input = directory.resolve("input.dat");
+        Path output = directory.resolve("output.dat");
+        Files.write(input, buffer.array());
+        assertEquals(values.length, myExternalSorter.sort(input, output));
+        Arrays.sort(values);
+        ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(output));
+        for (long value : values) {
+            assertEquals(value, sorted.getLong());
+        }
+        assertFalse(sorted.hasRemaining());
+        try (var files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void testSortStable() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1000 * 8);
+        for (int i = 0; i < 1000; i++) {
+            buffer.putInt(i % 7).putInt(i);
+        }
+        Path file = directory.resolve("records.dat");
+        Files.write(file, buffer.array());
+        Comparator<byte[]> byKey = Comparator.comparingInt(record -> ByteBuffer.wrap(record).getInt());
+        MyExternalSorter sorter = new MyExternalSorter(8, byKey, 80, 2, directory);
+        assertEquals(1000, sorter.sort(file, file));
+        ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(file));
+        int previousKey = -1;
+        int previousIndex = -1;
+        for (int i = 0; i < 1000; i++) {
+            int key = sorted.getInt();
+            int index = sorted.getInt();
+            assertTrue(key > previousKey || key == previousKey && index > previousIndex);
+            previousKey = key;
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    void testSortEmptyAndInvalid() throws IOException {
+        Path input = directory.resolve("input.dat");
+        Path output = directory.resolve("output.dat");
+        Files.write(input, new byte[0]);
+        assertEquals(0, myExternalSorter.sort(input, output));
+        assertEquals(0, Files.size(output));
+        Files.write(input, new byte[12]);
+        assertThrows(IllegalArgumentException.class, () -> myExternalSorter.sort(input, output));
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyIndexedPriorityQueueTest {
+    MyIndexedPriorityQueue<Integer> myIndexedPriorityQueue;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myIndexedPriorityQueue = new MyIndexedPriorityQueue<>(4);
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyIndexedPriorityQueue<Integer>(-1));
+    }
+
+    @Test
+    void testOffer() {
+        assertThrows(IllegalArgumentException.class, () -> myIndexedPriorityQueue.offer(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> myIndexedPriorityQueue.offer(0, null));
+        myIndexedPriorityQueue.offer(100, 5);
+        assertThrows(IllegalArgumentException.class, () -> myIndexedPriorityQueue.offer(100, 6));
+        assertTrue(myIndexedPriorityQueue.contains(100));
+        assertFalse(myIndexedPriorityQueue.contains(99));
+        assertEquals(5, myIndexedPriorityQueue.keyOf(100));
+        assertEquals(100, myIndexedPriorityQueue.peekIndex());
+    }
+
+    @Test
+    void testPollOrder() {
+        assertEquals(-1, myIndexedPriorityQueue.pollIndex());
+        for (int i = 0; i < 50; i++) {
+            myIndexedPriorityQueue.offer(i, (i * 17) % 50);
+        }
+        int previous = -1;
+        while (!myIndexedPriorityQueue.isEmpty()) {
+            int key = myIndexedPriorityQueue.peek();
+            int index = myIndexedPriorityQueue.pollIndex();
+            assertEquals((index * 17) % 50, key);
+            assertTrue(previous < key);
+            previous = key;
+        }
+    }
+
+    @Test
+    void testChangeKeys() {
+        for (int i = 0; i < 10; i++) {
+            myIndexedPriorityQueue.offer(i, 10 + i);
+        }
+        myIndexedPriorityQueue.decreaseKey(9, 1);
+        assertEquals(9, myIndexedPriorityQueue.peekIndex());
+        myIndexedPriorityQueue.increaseKey(9, 30);
+        assertEquals(0, myIndexedPriorityQueue.peekIndex());
+        myIndexedPriorityQueue.changeKey(5, 0);
+        assertEquals(5, myIndexedPriorityQueue.peekIndex());
+        assertThrows(IllegalArgumentException.class, () -> myIndexedPriorityQueue.decreaseKey(9, 40));
+        assertThrows(IllegalArgumentException.class, () -> myIndexedPriorityQueue.increaseKey(9, 20));
+        assertThrows(IllegalArgumentException.class, () -> myIndexedPriorityQueue.changeKey(42, 20));
+        assertEquals(10, myIndexedPriorityQueue.size());
+    }
+
+    @Test
+    void testRemove() {
+        assertNull(myIndexedPriorityQueue.remove(3));
+        for (int i = 0; i < 10; i++) {
+            myIndexedPriorityQueue.offer(i, i);
+        }
+        assertEquals(4, myIndexedPriorityQueue.remove(4));
+        assertEquals(0, myIndexedPriorityQueue.remove(0));
+        assertFalse(myIndexedPriorityQueue.contains(4));
+        int[] expected = {1, 2, 3, 5, 6, 7, 8, 9};
+        for (int index : expected) {
+            assertEquals(index, myIndexedPriorityQueue.pollIndex());
+        }
+    }
+
+    @Test
+    void testMaxHeap() {
+        MyIndexedPriorityQueue<Integer> maxHeap = new MyIndexedPriorityQueue<>(10, false);
+        maxHeap.offer(0, 1);
+        maxHeap.offer(1, 3);
+        maxHeap.offer(2, 2);
+        assertEquals(1, maxHeap.peekIndex());
+        maxHeap.decreaseKey(1, 0);
+        assertEquals(2, maxHeap.peekIndex());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("[]", myIndexedPriorityQueue.toString());
+        myIndexedPriorityQueue.offer(2, 5);
+        assertEquals("[2=5]", myIndexedPriorityQueue.toString());
+        myIndexedPriorityQueue.clear();
+        assertTrue(myIndexedPriorityQueue.isEmpty());
+        assertFalse(myIndexedPriorityQueue.contains(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyLongPriorityQueueTest {
+    MyLongPriorityQueue<String> myLongPriorityQueue;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myLongPriorityQueue = new MyLongPriorityQueue<>();
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyLongPriorityQueue<String>(-1, true));
+    }
+
+    @Test
+    void testOfferPoll() {
+        assertThrows(NoSuchElementException.class, () -> myLongPriorityQueue.poll());
+        for (int i = 0; i < 1000; i++) {
+            myLongPriorityQueue.offer((i * 7919L) % 1000 - 500);
+        }
+        assertEquals(1000, myLongPriorityQueue.size());
+        for (long i = -500; i < 500; i++) {
+            assertEquals(i, myLongPriorityQueue.poll());
+        }
+        assertTrue(myLongPriorityQueue.isEmpty());
+    }
+
+    @Test
+    void testMaxHeap() {
+        MyLongPriorityQueue<String> maxHeap = new MyLongPriorityQueue<>(false);
+        maxHeap.offer(Long.MIN_VALUE);
+        maxHeap.offer(Long.MAX_VALUE);
+        maxHeap.offer(0);
+        assertEquals(Long.MAX_VALUE, maxHeap.poll());
+        assertEquals(0, maxHeap.poll());
+        assertEquals(Long.MIN_VALUE, maxHeap.poll());
+    }
+
+    @Test
+    void testPayloads() {
+        myLongPriorityQueue.offer(3, "three");
+        myLongPriorityQueue.offer(1, 10);
+        myLongPriorityQueue.offer(2);
+        assertEquals(1, myLongPriorityQueue.peek());
+        assertEquals(10, myLongPriorityQueue.peekIntPayload());
+        assertNull(myLongPriorityQueue.peekPayload());
+        myLongPriorityQueue.poll();
+        assertEquals(0, myLongPriorityQueue.peekIntPayload());
+        myLongPriorityQueue.poll();
+        assertEquals("three", myLongPriorityQueue.peekPayload());
+    }
+
+    @Test
+    void testEquals() {
+        assertTrue(myLongPriorityQueue.equals(myLongPriorityQueue));
+        assertFalse(myLongPriorityQueue.equals(null));
+        MyLongPriorityQueue<String> myLongPriorityQueue2 = new MyLongPriorityQueue<>();
+        myLongPriorityQueue2.offer(5);
+        assertFalse(myLongPriorityQueue.equals(myLongPriorityQueue2));
+        myLongPriorityQueue.offer(5);
+        assertTrue(myLongPriorityQueue.equals(myLongPriorityQueue2));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("[]", myLongPriorityQueue.toString());
+        myLongPriorityQueue.offer(6);
+        myLongPriorityQueue.offer(5);
+        assertEquals("[5, 6]", myLongPriorityQueue.toString());
+        myLongPriorityQueue.clear();
+        assertEquals(0, myLongPriorityQueue.toArray().length);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyLongSortedIndexTest {
+    MyLongSortedIndex myLongSortedIndex;
+
+    long[] sorted;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        Random random = new Random(49);
+        sorted = new long[1000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = random.nextInt(500) - 250;
+        }
+        myLongSortedIndex = new MyLongSortedIndex(sorted);
+        Arrays.sort(sorted);
+    }
+
+    @Test
+    void testToArray() {
+        assertEquals(1000, myLongSortedIndex.size());
+        assertArrayEquals(sorted, myLongSortedIndex.toArray());
+        assertEquals("[1, 2, 3]", new MyLongSortedIndex(new long[] {3, 1, 2}).toString());
+    }
+
+    @Test
+    void testBounds() {
+        for (long key = -260; key <= 260; key++) {
+            assertEquals(lowerBound(key), myLongSortedIndex.lowerBound(key));
+            assertEquals(upperBound(key), myLongSortedIndex.upperBound(key));
+            int index = myLongSortedIndex.indexOf(key);
+            if (index == -1) {
+                assertFalse(myLongSortedIndex.contains(key));
+                assertTrue(Arrays.binarySearch(sorted, key) < 0);
+            } else {
+                assertEquals(lowerBound(key), index);
+                assertEquals(key, sorted[index]);
+            }
+        }
+        assertEquals(1000, myLongSortedIndex.lowerBound(Long.MAX_VALUE));
+        assertEquals(0, myLongSortedIndex.upperBound(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testBatchBounds() {
+        long[] keys = new long[521];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i - 260;
+        }
+        int[] lower = new int[keys.length];
+        int[] upper = new int[keys.length];
+        myLongSortedIndex.lowerBounds(keys, lower);
+        myLongSortedIndex.upperBounds(keys, upper);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(lowerBound(keys[i]), lower[i]);
+            assertEquals(upperBound(keys[i]), upper[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> myLongSortedIndex.lowerBounds(keys, new int[1]));
+    }
+
+    @Test
+    void testSmallSizes() {
+        for (int size = 0; size < 40; size++) {
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = 2 * i;
+            }
+            MyLongSortedIndex index = new MyLongSortedIndex(keys);
+            int[] results = new int[2 * size + 2];
+            long[] queries = new long[2 * size + 2];
+            for (int i = 0; i < queries.length; i++) {
+                queries[i] = i - 1;
+            }
+            index.lowerBounds(queries, results);
+            for (int i = 0; i < queries.length; i++) {
+                int expected = (int) Math.min(Math.max((queries[i] + 1) / 2, 0), size);
+                assertEquals(expected, index.lowerBound(queries[i]));
+                assertEquals(expected, results[i]);
+            }
+        }
+        assertTrue(new MyLongSortedIndex(new long[0]).isEmpty());
+    }
+
+    int lowerBound(long key) {
+        int i = 0;
+        while (i < sorted.length && sorted[i] < key) {
+            i++;
+        }
+        return i;
+    }
+
+    int upperBound(long key) {
+        int i = 0;
+        while (i < sorted.length && sorted[i] <= key) {
+            i++;
+        }
+        return i;
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MyMappedQueueTest {
+    MyMappedQueue myMappedQueue;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() throws IOException {
+        myMappedQueue = new MyMappedQueue(directory, 64, 0);
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyMappedQueue(directory, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MyMappedQueue(directory, 64, -1));
+        assertThrows(IllegalArgumentException.class, () -> new MyMappedQueue(directory, 128, 0));
+    }
+
+    @Test
+    void testOfferPoll() {
+        assertNull(myMappedQueue.poll());
+        for (int i = 0; i < 100; i++) {
+            myMappedQueue.offer(new byte[] {(byte) i, (byte) (i + 1)});
+        }
+        assertEquals(100, myMappedQueue.size());
+        for (int i = 0; i < 100; i++) {
+            assertArrayEquals(new byte[] {(byte) i, (byte) (i + 1)}, myMappedQueue.poll());
+        }
+        assertTrue(myMappedQueue.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> myMappedQueue.offer(new byte[64]));
+    }
+
+    @Test
+    void testSegmentDeletion() throws IOException {
+        for (int i = 0; i < 50; i++) {
+            myMappedQueue.offer(new byte[10]);
+        }
+        for (int i = 0; i < 50; i++) {
+            myMappedQueue.poll();
+        }
+        myMappedQueue.peek();
+        try (var files = Files.list(directory)) {
+            assertTrue(files.count() <= 3);
+        }
+    }
+
+    @Test
+    void testReopen() throws IOException {
+        myMappedQueue.offer(new byte[] {1});
+        myMappedQueue.offer(new byte[] {2, 3});
+        myMappedQueue.offer(new byte[0]);
+        myMappedQueue.poll();
+        myMappedQueue.close();
+        myMappedQueue = new MyMappedQueue(directory, 64, 0);
+        assertEquals(2, myMappedQueue.size());
+        assertArrayEquals(new byte[] {2, 3}, myMappedQueue.poll());
+        assertArrayEquals(new byte[0], myMappedQueue.poll());
+        assertNull(myMappedQueue.poll());
+    }
+
+    @Test
+    void testReopenAfterDeletion() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            myMappedQueue.offer(new byte[] {(byte) i, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+        }
+        for (int i = 0; i < 10; i++) {
+            myMappedQueue.poll();
+        }
+        myMappedQueue.peek();
+        myMappedQueue.close();
+        myMappedQueue = new MyMappedQueue(directory, 64, 0);
+        assertEquals(10, myMappedQueue.size());
+        assertEquals(10, myMappedQueue.poll()[0]);
+        myMappedQueue.clear();
+        myMappedQueue.offer(new byte[] {42});
+        myMappedQueue.close();
+        myMappedQueue = new MyMappedQueue(directory, 64, 0);
+        assertEquals(1, myMappedQueue.size());
+        assertArrayEquals(new byte[] {42}, myMappedQueue.poll());
+    }
+
+    @Test
+    void testTornCursor() throws IOException {
+        myMappedQueue.offer(new byte[] {1});
+        myMappedQueue.offer(new byte[] {2});
+        myMappedQueue.close();
+        // Corrupt the slot holding the latest cursors, as a torn write would
+        Path cursorPath = directory.resolve("cursor.dat");
+        byte[] cursor = Files.readAllBytes(cursorPath);
+        int latest = cursor[15] > cursor[71] ? 8 : 64;
+        cursor[latest + 40] ^= 1;
+        Files.write(cursorPath, cursor);
+        myMappedQueue = new MyMappedQueue(directory, 64, 0);
+        assertEquals(1, myMappedQueue.size());
+        assertArrayEquals(new byte[] {1}, myMappedQueue.poll());
+    }
+
+    @Test
+    void testFixedRecords() throws IOException {
+        MyMappedQueue fixed = new MyMappedQueue(directory.resolve("fixed"), 10, 4);
+        assertThrows(IllegalArgumentException.class, () -> fixed.offer(new byte[3]));
+        for (int i = 0; i < 10; i++) {
+            fixed.offer(new byte[] {(byte) i, 0, 0, 0});
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, fixed.poll()[0]);
+        }
+        fixed.close();
+    }
+
+    @Test
+    void testPeekBuffer() {
+        assertNull(myMappedQueue.peekBuffer());
+        myMappedQueue.offer(new byte[] {7, 8});
+        ByteBuffer record = myMappedQueue.peekBuffer();
+        assertEquals(2, record.remaining());
+        assertTrue(record.isReadOnly());
+        assertEquals(7, record.get());
+        assertEquals(2, myMappedQueue.pollBuffer().remaining());
+        assertTrue(myMappedQueue.isEmpty());
+    }
+
+    @Test
+    void testClear() {
+        myMappedQueue.offer(new byte[30]);
+        myMappedQueue.offer(new byte[30]);
+        myMappedQueue.clear();
+        assertTrue(myMappedQueue.isEmpty());
+        assertNull(myMappedQueue.peek());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("[]", myMappedQueue.toString());
+        myMappedQueue.offer(new byte[] {5});
+        assertEquals("[[5]]", myMappedQueue.toString());
+        myMappedQueue.offer(new byte[] {6, 7});
+        assertEquals("[[5], [6, 7]]", myMappedQueue.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
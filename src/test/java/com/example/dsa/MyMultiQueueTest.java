@@ -0,0 +1,112 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyMultiQueueTest {
+    MyMultiQueue<Integer> myMultiQueue;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myMultiQueue = new MyMultiQueue<>(8, true);
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyMultiQueue<Integer>(1, true));
+    }
+
+    @Test
+    void testOfferPoll() {
+        assertNull(myMultiQueue.poll());
+        assertNull(myMultiQueue.peek());
+        for (int i = 0; i < 1000; i++) {
+            myMultiQueue.offer(i);
+        }
+        assertEquals(1000, myMultiQueue.size());
+        assertEquals(0, myMultiQueue.peek());
+        long rankError = 0;
+        boolean[] polled = new boolean[1000];
+        int best = 0;
+        for (int i = 0; i < 1000; i++) {
+            int element = myMultiQueue.poll();
+            assertFalse(polled[element]);
+            polled[element] = true;
+            rankError += element - best;
+            while (best < 1000 && polled[best]) {
+                best++;
+            }
+        }
+        assertTrue(myMultiQueue.isEmpty());
+        // Two-choice sampling keeps the average rank error near the number of heaps
+        assertTrue(rankError / 1000.0 < 8 * 4);
+    }
+
+    @Test
+    void testConcurrent() throws InterruptedException {
+        int threads = 8;
+        int perThread = 10_000;
+        AtomicLong polledSum = new AtomicLong();
+        AtomicBoolean negativeSize = new AtomicBoolean();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 1; i <= perThread; i++) {
+                    myMultiQueue.offer(i);
+                    if (i % 2 == 0) {
+                        Integer element = myMultiQueue.poll();
+                        if (element != null) {
+                            polledSum.addAndGet(element);
+                        }
+                    }
+                    if (myMultiQueue.size() < 0) {
+                        negativeSize.set(true);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long remaining = 0;
+        for (Integer element = myMultiQueue.poll(); element != null; element = myMultiQueue.poll()) {
+            remaining += element;
+        }
+        assertEquals((long) threads * perThread * (perThread + 1) / 2, polledSum.get() + remaining);
+        assertFalse(negativeSize.get());
+        assertEquals(0, myMultiQueue.size());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("[]", myMultiQueue.toString());
+        myMultiQueue.offer(5);
+        assertEquals("[5]", myMultiQueue.toString());
+        myMultiQueue.clear();
+        assertEquals(0, myMultiQueue.size());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
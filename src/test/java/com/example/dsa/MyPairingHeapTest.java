@@ -0,0 +1,136 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyPairingHeapTest {
+    MyPairingHeap<Integer> myPairingHeap;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myPairingHeap = new MyPairingHeap<>();
+    }
+
+    @Test
+    void testOfferPoll() {
+        assertNull(myPairingHeap.poll());
+        assertNull(myPairingHeap.peek());
+        for (int i = 0; i < 1000; i++) {
+            myPairingHeap.offer((i * 7919) % 1000);
+        }
+        assertEquals(1000, myPairingHeap.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, myPairingHeap.poll());
+        }
+        assertTrue(myPairingHeap.isEmpty());
+    }
+
+    @Test
+    void testMeld() {
+        MyPairingHeap<Integer> other = new MyPairingHeap<>();
+        for (int i = 0; i < 50; i++) {
+            myPairingHeap.offer(i * 2);
+            other.offer(i * 2 + 1);
+        }
+        myPairingHeap.meld(other);
+        assertTrue(other.isEmpty());
+        assertEquals(100, myPairingHeap.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, myPairingHeap.poll());
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            MyPairingHeap<Integer> maxHeap = new MyPairingHeap<>(false);
+            maxHeap.offer(1);
+            myPairingHeap.meld(maxHeap);
+        });
+    }
+
+    @Test
+    void testDecreaseKey() {
+        MyPairingHeap<Integer>.Handle[] handles = new MyPairingHeap.Handle[100];
+        for (int i = 0; i < 100; i++) {
+            handles[i] = myPairingHeap.insert(100 + i);
+        }
+        myPairingHeap.poll();
+        myPairingHeap.decreaseKey(handles[50], 5);
+        myPairingHeap.decreaseKey(handles[99], 7);
+        assertThrows(IllegalArgumentException.class, () -> myPairingHeap.decreaseKey(handles[60], 500));
+        assertEquals(5, handles[50].element());
+        assertEquals(5, myPairingHeap.poll());
+        assertEquals(7, myPairingHeap.poll());
+        assertEquals(101, myPairingHeap.poll());
+        assertEquals(96, myPairingHeap.size());
+    }
+
+    @Test
+    void testStaleHandles() {
+        MyPairingHeap<Integer>.Handle polled = myPairingHeap.insert(1);
+        MyPairingHeap<Integer>.Handle kept = myPairingHeap.insert(2);
+        assertEquals(1, myPairingHeap.poll());
+        assertThrows(IllegalArgumentException.class, () -> myPairingHeap.decreaseKey(polled, 0));
+
+        MyPairingHeap<Integer> other = new MyPairingHeap<>();
+        MyPairingHeap<Integer>.Handle foreign = other.insert(10);
+        assertThrows(IllegalArgumentException.class, () -> myPairingHeap.decreaseKey(foreign, 0));
+        assertEquals(10, other.peek());
+
+        myPairingHeap.meld(other);
+        myPairingHeap.decreaseKey(foreign, 0);
+        assertEquals(0, myPairingHeap.poll());
+        assertThrows(IllegalArgumentException.class, () -> other.decreaseKey(kept, 0));
+
+        myPairingHeap.clear();
+        assertThrows(IllegalArgumentException.class, () -> myPairingHeap.decreaseKey(kept, 0));
+        assertThrows(IllegalArgumentException.class, () -> myPairingHeap.decreaseKey(null, 0));
+    }
+
+    @Test
+    void testMaxHeap() {
+        MyPairingHeap<Integer> maxHeap = new MyPairingHeap<>(false);
+        MyPairingHeap<Integer>.Handle handle = maxHeap.insert(1);
+        maxHeap.offer(5);
+        maxHeap.offer(3);
+        maxHeap.decreaseKey(handle, 10);
+        assertEquals(10, maxHeap.poll());
+        assertEquals(5, maxHeap.poll());
+    }
+
+    @Test
+    void testEquals() {
+        assertTrue(myPairingHeap.equals(myPairingHeap));
+        assertFalse(myPairingHeap.equals(null));
+        MyPairingHeap<Integer> myPairingHeap2 = new MyPairingHeap<>();
+        myPairingHeap2.offer(5);
+        assertFalse(myPairingHeap.equals(myPairingHeap2));
+        myPairingHeap.offer(5);
+        assertTrue(myPairingHeap.equals(myPairingHeap2));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("[]", myPairingHeap.toString());
+        myPairingHeap.offer(6);
+        myPairingHeap.offer(5);
+        assertEquals("[5, 6]", myPairingHeap.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
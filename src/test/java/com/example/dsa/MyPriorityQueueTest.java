@@ -23,8 +23,135 @@ class MyPriorityQueueTest {
     }
 
     @Test
-    void test() {
-        assertTrue(true, "Not true");
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyPriorityQueue<Integer>(-1));
+    }
+
+    @Test
+    void testOfferPoll() {
+        assertNull(myPriorityQueue.poll());
+        int[] values = {5, 3, 9, 1, 7, 3, 8, 2, 6, 4, 0};
+        for (int value : values) {
+            myPriorityQueue.offer(value);
+        }
+        assertEquals(values.length, myPriorityQueue.size());
+        assertEquals(0, myPriorityQueue.peek());
+        int previous = Integer.MIN_VALUE;
+        while (!myPriorityQueue.isEmpty()) {
+            int current = myPriorityQueue.poll();
+            assertTrue(previous <= current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void testArity() {
+        assertThrows(IllegalArgumentException.class, () -> new MyPriorityQueue<Integer>(11, true, 1));
+        for (int arity : new int[] {2, 3, 4, 8}) {
+            MyPriorityQueue<Integer> heap = new MyPriorityQueue<>(0, arity % 2 == 0, arity);
+            for (int i = 0; i < 1000; i++) {
+                heap.offer((i * 7919) % 1000);
+                if (i % 5 == 0) {
+                    heap.poll();
+                }
+            }
+            Integer previous = heap.poll();
+            while (!heap.isEmpty()) {
+                Integer current = heap.poll();
+                assertTrue(arity % 2 == 0 ? previous <= current : previous >= current);
+                previous = current;
+            }
+        }
+    }
+
+    @Test
+    void testShrink() {
+        for (int i = 1000; i > 0; i--) {
+            myPriorityQueue.offer(i);
+        }
+        for (int i = 1; i <= 1000; i++) {
+            assertEquals(i, myPriorityQueue.poll());
+        }
+        assertTrue(myPriorityQueue.isEmpty());
+    }
+
+    @Test
+    void testHeapifyArray() {
+        Integer[] values = new Integer[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i * 37) % 500;
+        }
+        values[10] = null;
+        MyPriorityQueue<Integer> maxHeap = new MyPriorityQueue<>(values, false);
+        assertEquals(499, maxHeap.size());
+        int previous = Integer.MAX_VALUE;
+        while (!maxHeap.isEmpty()) {
+            int current = maxHeap.poll();
+            assertTrue(previous >= current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void testHeapifyList() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        for (int i = 20; i > 0; i--) {
+            list.add(i);
+        }
+        MyPriorityQueue<Integer> minHeap = new MyPriorityQueue<>(list);
+        assertEquals(20, minHeap.size());
+        minHeap.offer(0);
+        for (int i = 0; i <= 20; i++) {
+            assertEquals(i, minHeap.poll());
+        }
+        assertTrue(new MyPriorityQueue<>(new MyArrayList<Integer>()).isEmpty());
+    }
+
+    @Test
+    void testOfferAllPollBatch() {
+        Integer[] values = new Integer[300];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i * 53) % 300;
+        }
+        values[7] = null;
+        assertEquals(299, myPriorityQueue.offerAll(values));
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(-1);
+        list.add(1000);
+        assertEquals(2, myPriorityQueue.offerAll(list));
+        assertEquals(301, myPriorityQueue.size());
+        assertThrows(IllegalArgumentException.class, () -> myPriorityQueue.pollBatch(-1, new Integer[1]));
+        Integer[] out = new Integer[400];
+        assertEquals(10, myPriorityQueue.pollBatch(10, out));
+        assertEquals(-1, out[0]);
+        int total = 10;
+        int previous = out[9];
+        int count;
+        while ((count = myPriorityQueue.pollBatch(64, out)) > 0) {
+            for (int i = 0; i < count; i++) {
+                assertTrue(previous <= out[i]);
+                previous = out[i];
+            }
+            total += count;
+        }
+        assertEquals(301, total);
+        assertEquals(1000, previous);
+        assertTrue(myPriorityQueue.isEmpty());
+        assertTrue(myPriorityQueue.capacity() <= 100);
+        MyPriorityQueue<Integer> full = new MyPriorityQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            full.offer(i);
+        }
+        assertEquals(0, full.pollBatch(0, out));
+        assertEquals(4, full.capacity());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("[]", myPriorityQueue.toString());
+        myPriorityQueue.offer(6);
+        myPriorityQueue.offer(5);
+        assertEquals("[5, 6]", myPriorityQueue.toString());
     }
 
     @AfterEach
@@ -0,0 +1,77 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyRadixHeapTest {
+    MyRadixHeap<String> myRadixHeap;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myRadixHeap = new MyRadixHeap<>();
+    }
+
+    @Test
+    void testOfferPoll() {
+        assertNull(myRadixHeap.pollMin());
+        assertNull(myRadixHeap.peekMin());
+        assertThrows(IllegalArgumentException.class, () -> myRadixHeap.offer(-1, "negative"));
+        for (int i = 0; i < 1000; i++) {
+            long key = (i * 7919L) % 1000;
+            myRadixHeap.offer(key, Long.toString(key));
+        }
+        assertEquals(1000, myRadixHeap.size());
+        for (long key = 0; key < 1000; key++) {
+            assertEquals(Long.toString(key), myRadixHeap.peekMin());
+            assertEquals(Long.toString(key), myRadixHeap.pollMin());
+            assertEquals(key, myRadixHeap.lastKey());
+        }
+        assertTrue(myRadixHeap.isEmpty());
+    }
+
+    @Test
+    void testMonotone() {
+        myRadixHeap.offer(10, "a");
+        myRadixHeap.offer(Long.MAX_VALUE, "max");
+        assertEquals("a", myRadixHeap.pollMin());
+        assertThrows(IllegalArgumentException.class, () -> myRadixHeap.offer(9, "b"));
+        myRadixHeap.offer(10, "c");
+        myRadixHeap.offer(12, "d");
+        assertEquals("c", myRadixHeap.pollMin());
+        assertEquals("d", myRadixHeap.pollMin());
+        assertEquals("max", myRadixHeap.pollMin());
+        assertEquals(Long.MAX_VALUE, myRadixHeap.lastKey());
+    }
+
+    @Test
+    void testClear() {
+        assertEquals("[]", myRadixHeap.toString());
+        myRadixHeap.offer(5, "five");
+        assertEquals("[5]", myRadixHeap.toString());
+        myRadixHeap.pollMin();
+        myRadixHeap.clear();
+        assertEquals(0, myRadixHeap.lastKey());
+        myRadixHeap.offer(1, "one");
+        assertEquals(1, myRadixHeap.size());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
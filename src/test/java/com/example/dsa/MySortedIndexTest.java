@@ -0,0 +1,84 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MySortedIndexTest {
+    MySortedIndex<String> mySortedIndex;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        MyList<String> words = new MyLinkedList<>();
+        for (String word : "the quick brown fox jumps over the lazy dog".split(" ")) {
+            words.add(word);
+        }
+        words.add(null);
+        mySortedIndex = new MySortedIndex<>(words);
+    }
+
+    @Test
+    void testToArray() {
+        assertEquals(9, mySortedIndex.size());
+        assertEquals("[brown, dog, fox, jumps, lazy, over, quick, the, the]", mySortedIndex.toString());
+        assertTrue(new MySortedIndex<>(new Integer[0]).isEmpty());
+    }
+
+    @Test
+    void testBounds() {
+        assertEquals(0, mySortedIndex.lowerBound("a"));
+        assertEquals(1, mySortedIndex.lowerBound("cat"));
+        assertEquals(7, mySortedIndex.lowerBound("the"));
+        assertEquals(9, mySortedIndex.upperBound("the"));
+        assertEquals(9, mySortedIndex.lowerBound("zebra"));
+        assertEquals(3, mySortedIndex.upperBound("fox"));
+        assertEquals(2, mySortedIndex.indexOf("fox"));
+        assertEquals(-1, mySortedIndex.indexOf("cat"));
+        assertTrue(mySortedIndex.contains("lazy"));
+        assertFalse(mySortedIndex.contains("zebra"));
+    }
+
+    @Test
+    void testBatchBounds() {
+        Integer[] keys = new Integer[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 3 * i;
+        }
+        MySortedIndex<Integer> index = new MySortedIndex<>(keys);
+        Integer[] queries = new Integer[301];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = i - 1;
+        }
+        int[] lower = new int[queries.length];
+        int[] upper = new int[queries.length];
+        index.lowerBounds(queries, lower);
+        index.upperBounds(queries, upper);
+        for (int i = 0; i < queries.length; i++) {
+            int query = queries[i];
+            assertEquals(Math.max((query + 2) / 3, 0), lower[i]);
+            assertEquals(Math.min(Math.floorDiv(query, 3) + 1, 100), upper[i]);
+            assertEquals(lower[i], index.lowerBound(query));
+            assertEquals(upper[i], index.upperBound(query));
+        }
+        assertThrows(IllegalArgumentException.class, () -> index.upperBounds(queries, new int[0]));
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
@@ -22,8 +22,69 @@ class MyStackTest {
     }
 
     @Test
-    void test() {
-        assertTrue(true, "Not true");
+    void testPushPop() {
+        assertNull(myStack.pop());
+        for (int i = 0; i < 1000; i++) {
+            myStack.push(i);
+        }
+        assertEquals(1000, myStack.size());
+        assertEquals(999, myStack.peek());
+        for (int i = 999; i >= 0; i--) {
+            assertEquals(i, myStack.pop());
+        }
+        assertTrue(myStack.isEmpty());
+        assertNull(myStack.peek());
+    }
+
+    @Test
+    void testOscillation() {
+        for (int i = 0; i < 64; i++) {
+            myStack.push(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            myStack.push(-1);
+            assertEquals(-1, myStack.pop());
+            assertEquals(63, myStack.pop());
+            myStack.push(63);
+        }
+        assertEquals(64, myStack.size());
+        assertEquals(63, myStack.peek());
+    }
+
+    @Test
+    void testEquals() {
+        assertTrue(myStack.equals(myStack));
+        assertFalse(myStack.equals(null));
+        MyStack<Integer> myStack2 = new MyStack<>();
+        for (int i = 0; i < 100; i++) {
+            myStack2.push(i);
+        }
+        assertFalse(myStack.equals(myStack2));
+        for (int i = 0; i < 100; i++) {
+            myStack.push(i);
+        }
+        assertTrue(myStack.equals(myStack2));
+    }
+
+    @Test
+    void testToArray() {
+        for (int i = 0; i < 130; i++) {
+            myStack.push(i);
+        }
+        Object[] elements = myStack.toArray();
+        assertEquals(130, elements.length);
+        for (int i = 0; i < 130; i++) {
+            assertEquals(i, elements[i]);
+        }
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("[]", myStack.toString());
+        myStack.push(5);
+        assertEquals("[5]", myStack.toString());
+        myStack.push(6);
+        assertEquals("[5, 6]", myStack.toString());
     }
 
     @AfterEach
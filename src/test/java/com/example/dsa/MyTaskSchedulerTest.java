@@ -0,0 +1,135 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyTaskSchedulerTest {
+    MyTaskScheduler myScheduler;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myScheduler = new MyTaskScheduler(4);
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyTaskScheduler(0));
+        assertEquals(4, myScheduler.parallelism());
+    }
+
+    @Test
+    void testSubmit() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            myScheduler.submit(counter::incrementAndGet);
+        }
+        myScheduler.awaitQuiescence();
+        assertEquals(1000, counter.get());
+    }
+
+    @Test
+    void testNestedSubmit() throws InterruptedException {
+        AtomicInteger leaves = new AtomicInteger();
+        myScheduler.submit(new Runnable() {
+            @Override
+            public void run() {
+                spawn(0);
+            }
+
+            void spawn(int level) {
+                if (level == 12) {
+                    leaves.incrementAndGet();
+                    return;
+                }
+                myScheduler.submit(() -> spawn(level + 1));
+                myScheduler.submit(() -> spawn(level + 1));
+            }
+        });
+        myScheduler.awaitQuiescence();
+        assertEquals(1 << 12, leaves.get());
+    }
+
+    @Test
+    void testFailure() throws InterruptedException {
+        myScheduler.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThrows(IllegalStateException.class, () -> myScheduler.awaitQuiescence());
+        myScheduler.awaitQuiescence();
+    }
+
+    @Test
+    void testError() throws InterruptedException {
+        MyTaskScheduler scheduler = new MyTaskScheduler(1);
+        AtomicInteger counter = new AtomicInteger();
+        scheduler.submit(() -> {
+            throw new AssertionError("boom");
+        });
+        for (int i = 0; i < 100; i++) {
+            scheduler.submit(counter::incrementAndGet);
+        }
+        assertThrows(AssertionError.class, () -> scheduler.awaitQuiescence());
+        assertEquals(100, counter.get());
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testShutdownWithQueuedTasks() throws InterruptedException {
+        MyTaskScheduler scheduler = new MyTaskScheduler(1);
+        Object gate = new Object();
+        boolean[] released = new boolean[1];
+        scheduler.submit(() -> {
+            synchronized (gate) {
+                while (!released[0]) {
+                    try {
+                        gate.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        });
+        for (int i = 0; i < 100; i++) {
+            scheduler.submit(() -> { });
+        }
+        Thread releaser = new Thread(() -> {
+            synchronized (gate) {
+                released[0] = true;
+                gate.notifyAll();
+            }
+        });
+        Thread.sleep(50);
+        releaser.start();
+        scheduler.shutdown();
+        releaser.join();
+        scheduler.awaitQuiescence();
+    }
+
+    @Test
+    void testShutdown() throws InterruptedException {
+        myScheduler.shutdown();
+        assertThrows(IllegalStateException.class, () -> myScheduler.submit(() -> { }));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        myScheduler.shutdown();
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
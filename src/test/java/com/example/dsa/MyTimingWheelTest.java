@@ -0,0 +1,111 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyTimingWheelTest {
+    MyTimingWheel<Long> myTimingWheel;
+
+    MyArrayQueue<Long> expired;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myTimingWheel = new MyTimingWheel<>(3, 3);
+        expired = new MyArrayQueue<>();
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyTimingWheel<Long>(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> new MyTimingWheel<Long>(16, 4));
+        assertThrows(IllegalArgumentException.class, () -> myTimingWheel.schedule(1L, -1));
+    }
+
+    @Test
+    void testExpiry() {
+        long[] delays = {0, 1, 7, 8, 9, 63, 64, 65, 511, 512, 513, 1000, 5000};
+        for (long delay : delays) {
+            myTimingWheel.schedule(Math.max(delay, 1), delay);
+        }
+        assertEquals(delays.length, myTimingWheel.size());
+        for (long tick = 1; tick <= 5000; tick++) {
+            myTimingWheel.advance(1, expired);
+            while (!expired.isEmpty()) {
+                assertEquals(tick, expired.poll());
+            }
+        }
+        assertTrue(myTimingWheel.isEmpty());
+    }
+
+    @Test
+    void testSingleLevelBeyondSpan() {
+        MyTimingWheel<Long> wheel = new MyTimingWheel<>(3, 1);
+        long[] delays = {5, 7, 8, 20, 100};
+        for (long delay : delays) {
+            wheel.schedule(delay, delay);
+        }
+        for (long tick = 1; tick <= 100; tick++) {
+            wheel.advance(1, expired);
+            while (!expired.isEmpty()) {
+                assertEquals(tick, expired.poll());
+            }
+        }
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    void testAdvanceMany() {
+        for (long i = 1; i <= 2000; i++) {
+            myTimingWheel.schedule(i, i);
+        }
+        assertEquals(1000, myTimingWheel.advance(1000, expired));
+        for (long i = 1; i <= 1000; i++) {
+            assertEquals(i, expired.poll());
+        }
+        assertEquals(1000, myTimingWheel.currentTick());
+        assertEquals(1000, myTimingWheel.size());
+    }
+
+    @Test
+    void testCancel() {
+        MyTimingWheel<Long>.Timeout first = myTimingWheel.schedule(1L, 100);
+        MyTimingWheel<Long>.Timeout second = myTimingWheel.schedule(2L, 100);
+        assertEquals(100, first.deadline());
+        assertTrue(first.cancel());
+        assertFalse(first.cancel());
+        assertFalse(first.isPending());
+        assertEquals(1, myTimingWheel.advance(100, expired));
+        assertEquals(2, expired.poll());
+        assertFalse(second.isPending());
+        assertFalse(second.cancel());
+    }
+
+    @Test
+    void testClear() {
+        MyTimingWheel<Long>.Timeout timeout = myTimingWheel.schedule(1L, 10);
+        myTimingWheel.clear();
+        assertTrue(myTimingWheel.isEmpty());
+        assertFalse(timeout.cancel());
+        assertEquals(0, myTimingWheel.advance(20, expired));
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
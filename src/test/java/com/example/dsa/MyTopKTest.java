@@ -0,0 +1,96 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyTopKTest {
+    MyTopK<Integer> myTopK;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myTopK = new MyTopK<>(5);
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyTopK<Integer>(0));
+    }
+
+    @Test
+    void testOffer() {
+        for (int i = 0; i < 1000; i++) {
+            myTopK.offer((i * 7919) % 1000);
+        }
+        assertEquals(5, myTopK.size());
+        assertEquals(995, myTopK.threshold());
+        assertFalse(myTopK.offer(995));
+        assertTrue(myTopK.offer(1000));
+        assertEquals("[1000, 999, 998, 997, 996]", myTopK.toString());
+    }
+
+    @Test
+    void testSmallest() {
+        MyTopK<Integer> smallest = new MyTopK<>(3, false);
+        for (int i = 100; i > 0; i--) {
+            smallest.offer(i);
+        }
+        MyList<Integer> sorted = smallest.toSortedList();
+        assertEquals(1, sorted.get(0));
+        assertEquals(2, sorted.get(1));
+        assertEquals(3, sorted.get(2));
+    }
+
+    @Test
+    void testMerge() {
+        MyTopK<Integer> other = new MyTopK<>(5);
+        for (int i = 0; i < 50; i++) {
+            myTopK.offer(i * 2);
+            other.offer(i * 2 + 1);
+        }
+        myTopK.merge(other);
+        assertEquals("[99, 98, 97, 96, 95]", myTopK.toString());
+        assertEquals(5, other.size());
+    }
+
+    @Test
+    void testCapacity() {
+        MyTopK<Integer> topK = new MyTopK<>(1000);
+        for (int i = 0; i < 2000; i++) {
+            topK.offer(i);
+            assertEquals(1001, topK.capacity());
+        }
+        topK.clear();
+        topK.offer(1);
+        assertEquals(1001, topK.capacity());
+    }
+
+    @Test
+    void testClear() {
+        assertTrue(myTopK.isEmpty());
+        assertNull(myTopK.threshold());
+        myTopK.offer(1);
+        myTopK.clear();
+        assertTrue(myTopK.isEmpty());
+        assertEquals("[]", myTopK.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}
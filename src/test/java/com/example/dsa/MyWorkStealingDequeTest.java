@@ -0,0 +1,106 @@
+package com.example.dsa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MyWorkStealingDequeTest {
+    MyWorkStealingDeque<Integer> myDeque;
+
+    @BeforeAll
+    static void initAll() {
+
+    }
+
+    @BeforeEach
+    void init() {
+        myDeque = new MyWorkStealingDeque<>(2);
+    }
+
+    @Test
+    void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new MyWorkStealingDeque<Integer>(0));
+    }
+
+    @Test
+    void testPushPop() {
+        assertNull(myDeque.pop());
+        for (int i = 0; i < 100; i++) {
+            myDeque.push(i);
+        }
+        assertEquals(100, myDeque.size());
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, myDeque.pop());
+        }
+        assertTrue(myDeque.isEmpty());
+    }
+
+    @Test
+    void testSteal() {
+        assertNull(myDeque.steal());
+        for (int i = 0; i < 10; i++) {
+            myDeque.push(i);
+        }
+        assertEquals(0, myDeque.steal());
+        assertEquals(9, myDeque.pop());
+        assertEquals(1, myDeque.steal());
+        assertEquals(7, myDeque.size());
+    }
+
+    @Test
+    void testConcurrentSteal() throws InterruptedException {
+        int count = 100_000;
+        AtomicInteger taken = new AtomicInteger();
+        Thread[] thieves = new Thread[4];
+        boolean[] seen = new boolean[count];
+        for (int t = 0; t < thieves.length; t++) {
+            thieves[t] = new Thread(() -> {
+                while (taken.get() < count) {
+                    Integer element = myDeque.steal();
+                    if (element != null) {
+                        synchronized (seen) {
+                            assertFalse(seen[element]);
+                            seen[element] = true;
+                        }
+                        taken.incrementAndGet();
+                    }
+                }
+            });
+            thieves[t].start();
+        }
+        for (int i = 0; i < count; i++) {
+            myDeque.push(i);
+            if (i % 3 == 0) {
+                Integer element = myDeque.pop();
+                if (element != null) {
+                    synchronized (seen) {
+                        assertFalse(seen[element]);
+                        seen[element] = true;
+                    }
+                    taken.incrementAndGet();
+                }
+            }
+        }
+        for (Thread thief : thieves) {
+            thief.join();
+        }
+        assertEquals(count, taken.get());
+        assertTrue(myDeque.isEmpty());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+
+    }
+}